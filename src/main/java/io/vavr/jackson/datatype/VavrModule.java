@@ -23,14 +23,57 @@ import com.fasterxml.jackson.databind.module.SimpleModule;
 import io.vavr.jackson.datatype.deserialize.VavrDeserializers;
 import io.vavr.jackson.datatype.serialize.VavrSerializers;
 
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
 public class VavrModule extends SimpleModule {
 
     private static final long serialVersionUID = 1L;
 
-    public static class Settings {
+    public static class Settings implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * How {@code Lazy} values are evaluated on serialization.
+         */
+        public enum LazyEvaluation {
+            /**
+             * Evaluates each {@code Lazy} inline, in document order.
+             */
+            FORCE,
+            /**
+             * Writes {@code null} for a {@code Lazy} that is not evaluated yet. Such a value counts as empty,
+             * so it is omitted by {@code JsonInclude.Include.NON_EMPTY} and {@code NON_ABSENT}.
+             */
+            SKIP_UNEVALUATED,
+            /**
+             * Evaluates every {@code Lazy} reachable from the value being written concurrently on the
+             * {@link #preForceLazyValuesOn(Executor) given executor}, once the first unevaluated one is met,
+             * before the write goes on.
+             */
+            PRE_FORCE
+        }
 
         private boolean plainOption = true;
         private boolean deserializeNullAsEmptyCollection = false;
+        private boolean compactFormat = false;
+        private boolean deferLazyDeserialization = false;
+        private LazyEvaluation lazyEvaluation = LazyEvaluation.FORCE;
+        private transient Executor lazyExecutor;
+        private int flushStreamsEvery = 0;
+        private int flushStreamsAtBufferedBytes = 0;
+        private int parallelSerializationThreshold = 0;
+        private transient ForkJoinPool parallelSerializationPool;
+        private int parallelDeserializationThreshold = 0;
+        private transient ForkJoinPool parallelDeserializationPool;
+        private final Map<String, Object> functionsByName = new HashMap<>();
+        private final Map<Object, String> functionNames = new IdentityHashMap<>();
 
         public Settings useOptionInPlainFormat(boolean value) {
             plainOption = value;
@@ -42,6 +85,110 @@ public class VavrModule extends SimpleModule {
             return this;
         }
 
+        /**
+         * Writes a boolean instead of a string tag for {@code Either} and {@code Option} not in plain format,
+         * e.g. {@code [true, 1]} instead of {@code ["right", 1]}. Both forms are always accepted on read.
+         */
+        public Settings useCompactFormat(boolean value) {
+            compactFormat = value;
+            return this;
+        }
+
+        /**
+         * Keeps the tokens of every {@code Lazy} value and binds them on the first {@code Lazy.get()} only,
+         * binding errors are then thrown from {@code get()}.
+         */
+        public Settings deferLazyDeserialization(boolean value) {
+            deferLazyDeserialization = value;
+            return this;
+        }
+
+        public Settings lazyEvaluation(LazyEvaluation value) {
+            lazyEvaluation = value;
+            return this;
+        }
+
+        /**
+         * Shortcut for {@link LazyEvaluation#PRE_FORCE} on the given executor. The reachable values are walked
+         * without being written: bean properties are read as the write reads them, with its active view and
+         * property filter, but the content of streams and iterators is never read and nothing is walked through
+         * a custom serializer. {@code Lazy} values behind these are evaluated by the write itself.
+         * The executor is not serialized along with these settings, {@code Lazy} values are forced inline when
+         * it is missing.
+         */
+        public Settings preForceLazyValuesOn(Executor executor) {
+            lazyEvaluation = LazyEvaluation.PRE_FORCE;
+            lazyExecutor = executor;
+            return this;
+        }
+
+        /**
+         * Flushes the generator every {@code elements} elements written from a {@code Stream} or an {@code Iterator},
+         * {@code 0} (the default) leaves flushing to the generator.
+         */
+        public Settings flushStreamsEvery(int elements) {
+            flushStreamsEvery = elements;
+            return this;
+        }
+
+        /**
+         * Flushes the generator while writing a {@code Stream} or an {@code Iterator} as soon as it buffers
+         * {@code bytes} or more, {@code 0} (the default) leaves flushing to the generator.
+         */
+        public Settings flushStreamsAtBufferedBytes(int bytes) {
+            flushStreamsAtBufferedBytes = bytes;
+            return this;
+        }
+
+        /**
+         * Serializes indexed seqs ({@code Vector}, {@code Array}) and maps of at least {@code threshold} elements
+         * in chunks on the given pool, each chunk into its own buffer, which are then written out in order.
+         * Here {@code threshold} is a minimum size only, the chunks are sized by the parallelism of the pool, unlike
+         * in {@link #parallelDeserialization(int, ForkJoinPool)}.
+         * Elements with object ids, declared by their serializer, their declared type or the property, are written
+         * sequentially, as ids are only tracked within a single chunk.
+         * The pool is not serialized along with these settings, values are serialized sequentially when it is missing.
+         */
+        public Settings parallelSerialization(int threshold, ForkJoinPool pool) {
+            parallelSerializationThreshold = threshold;
+            parallelSerializationPool = pool;
+            return this;
+        }
+
+        /**
+         * Binds the elements of seqs beyond the first {@code threshold} ones in chunks of {@code threshold} elements
+         * on the given pool, while the parser goes on with the next chunk, up to two chunks in flight per thread.
+         * Here {@code threshold} is the chunk size as well, since the size of a seq is unknown until it is read,
+         * unlike in {@link #parallelSerialization(int, ForkJoinPool)}.
+         * Elements of a primitive type keep the sequential path, which is faster, and so do elements with object ids,
+         * which are only resolved within a single chunk. The pool is not serialized along with these settings.
+         */
+        public Settings parallelDeserialization(int threshold, ForkJoinPool pool) {
+            parallelDeserializationThreshold = threshold;
+            parallelDeserializationPool = pool;
+            return this;
+        }
+
+        /**
+         * Registers a well-known {@code FunctionN} or {@code CheckedFunctionN} instance. It is written as the given
+         * name and read back as this very instance, other functions keep going through java serialization.
+         * On read, a registered name takes precedence over a serialized payload.
+         */
+        public Settings registerFunction(String name, Serializable function) {
+            Object previous = functionsByName.put(name, function);
+            if (previous != null && previous != function && name.equals(functionNames.get(previous))) {
+                // the replaced function may still be registered under another name
+                functionNames.remove(previous);
+                functionsByName.forEach((other, f) -> {
+                    if (f == previous) {
+                        functionNames.put(previous, other);
+                    }
+                });
+            }
+            functionNames.put(function, name);
+            return this;
+        }
+
         public boolean useOptionInPlainFormat() {
             return plainOption;
         }
@@ -49,6 +196,57 @@ public class VavrModule extends SimpleModule {
         public boolean deserializeNullAsEmptyCollection() {
             return deserializeNullAsEmptyCollection;
         }
+
+        public boolean useCompactFormat() {
+            return compactFormat;
+        }
+
+        public boolean deferLazyDeserialization() {
+            return deferLazyDeserialization;
+        }
+
+        public LazyEvaluation lazyEvaluation() {
+            return lazyEvaluation;
+        }
+
+        public Executor lazyExecutor() {
+            return lazyExecutor;
+        }
+
+        public int flushStreamsEvery() {
+            return flushStreamsEvery;
+        }
+
+        public int flushStreamsAtBufferedBytes() {
+            return flushStreamsAtBufferedBytes;
+        }
+
+        public int parallelSerializationThreshold() {
+            return parallelSerializationThreshold;
+        }
+
+        public ForkJoinPool parallelSerializationPool() {
+            return parallelSerializationPool;
+        }
+
+        public int parallelDeserializationThreshold() {
+            return parallelDeserializationThreshold;
+        }
+
+        public ForkJoinPool parallelDeserializationPool() {
+            return parallelDeserializationPool;
+        }
+
+        public Map<String, Object> registeredFunctions() {
+            return Collections.unmodifiableMap(functionsByName);
+        }
+
+        /**
+         * @return the name of the registered function or {@code null}
+         */
+        public String functionName(Object function) {
+            return functionNames.get(function);
+        }
     }
 
     private final Settings settings;
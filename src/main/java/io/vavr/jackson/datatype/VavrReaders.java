@@ -0,0 +1,123 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2017 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.jackson.datatype;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Stream;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the elements of a top-level JSON array one at a time, as they are pulled,
+ * so that arbitrarily large arrays can be processed without materializing them.
+ */
+public final class VavrReaders {
+
+    private VavrReaders() {
+    }
+
+    /**
+     * Binds the elements of the array at the current (or next) token of the parser lazily. The parser is left
+     * after the closing {@code END_ARRAY} once the iterator is exhausted, closing it is up to the caller.
+     * Read errors are thrown from {@code hasNext()} and {@code next()} as {@link UncheckedIOException}.
+     *
+     * @param reader      the reader that binds every element
+     * @param parser      the parser positioned at or before the start of the array
+     * @param elementType the type of the elements
+     * @param <T>         the type of the elements
+     * @return a single-use iterator over the elements
+     * @throws IOException if the parser is not positioned at an array
+     */
+    public static <T> Iterator<T> iterator(ObjectReader reader, JsonParser parser, JavaType elementType) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == null) {
+            token = parser.nextToken();
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw JsonMappingException.from(parser, "Expected array, found " + token);
+        }
+        return new ElementIterator<>(reader.forType(elementType), parser);
+    }
+
+    public static <T> Iterator<T> iterator(ObjectReader reader, JsonParser parser, Class<T> elementType) throws IOException {
+        return iterator(reader, parser, reader.getTypeFactory().constructType(elementType));
+    }
+
+    /**
+     * Same as {@link #iterator(ObjectReader, JsonParser, JavaType)} as a memoizing stream, which only keeps
+     * the elements that are still referenced.
+     */
+    public static <T> Stream<T> stream(ObjectReader reader, JsonParser parser, JavaType elementType) throws IOException {
+        return Stream.ofAll(iterator(reader, parser, elementType));
+    }
+
+    public static <T> Stream<T> stream(ObjectReader reader, JsonParser parser, Class<T> elementType) throws IOException {
+        return Stream.ofAll(iterator(reader, parser, elementType));
+    }
+
+    private static final class ElementIterator<T> implements Iterator<T> {
+
+        private final ObjectReader reader;
+        private final JsonParser parser;
+        private JsonToken next;
+
+        ElementIterator(ObjectReader reader, JsonParser parser) {
+            this.reader = reader;
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                try {
+                    next = parser.nextToken();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                if (next == null) {
+                    throw new UncheckedIOException(JsonMappingException.from(parser, "Unexpected end-of-input within array"));
+                }
+            }
+            return next != JsonToken.END_ARRAY;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("next() on empty iterator");
+            }
+            try {
+                // the reader consumes the current token
+                T element = reader.readValue(parser);
+                next = null;
+                return element;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -29,31 +29,58 @@ import java.lang.reflect.Type;
 
 public class VavrTypeModifier extends TypeModifier {
 
-    @Override
-    public JavaType modifyType(JavaType type, Type jdkType, TypeBindings bindings, TypeFactory typeFactory)
-    {
-        final Class<?> raw = type.getRawClass();
+    private enum Kind { NONE, COLLECTION_LIKE, MAP_LIKE, REFERENCE }
+
+    /**
+     * Upgrade kind of every raw class, classified once as this runs for all the types Jackson constructs.
+     */
+    private static final ClassValue<Kind> KINDS = new ClassValue<Kind>() {
+        @Override
+        protected Kind computeValue(Class<?> raw) {
+            return kind(raw);
+        }
+    };
+
+    private static Kind kind(Class<?> raw) {
         if (Seq.class.isAssignableFrom(raw) && CharSeq.class != raw) {
-            return CollectionLikeType.upgradeFrom(type, type.containedTypeOrUnknown(0));
+            return Kind.COLLECTION_LIKE;
         }
         if (Set.class.isAssignableFrom(raw)) {
-            return CollectionLikeType.upgradeFrom(type, type.containedTypeOrUnknown(0));
+            return Kind.COLLECTION_LIKE;
+        }
+        if (Iterator.class.isAssignableFrom(raw)) {
+            return Kind.COLLECTION_LIKE;
         }
         if (PriorityQueue.class.isAssignableFrom(raw)) {
-            return CollectionLikeType.upgradeFrom(type, type.containedTypeOrUnknown(0));
+            return Kind.COLLECTION_LIKE;
         }
         if (Map.class.isAssignableFrom(raw)) {
-            return MapLikeType.upgradeFrom(type, type.containedTypeOrUnknown(0), type.containedTypeOrUnknown(1));
+            return Kind.MAP_LIKE;
         }
         if (Multimap.class.isAssignableFrom(raw)) {
-            return MapLikeType.upgradeFrom(type, type.containedTypeOrUnknown(0), type.containedTypeOrUnknown(1));
+            return Kind.MAP_LIKE;
         }
         if (Lazy.class.isAssignableFrom(raw)) {
-            return ReferenceType.upgradeFrom(type, type.containedTypeOrUnknown(0));
+            return Kind.REFERENCE;
         }
         if (Option.class.isAssignableFrom(raw)) {
-            return ReferenceType.upgradeFrom(type, type.containedTypeOrUnknown(0));
+            return Kind.REFERENCE;
+        }
+        return Kind.NONE;
+    }
+
+    @Override
+    public JavaType modifyType(JavaType type, Type jdkType, TypeBindings bindings, TypeFactory typeFactory)
+    {
+        switch (KINDS.get(type.getRawClass())) {
+            case COLLECTION_LIKE:
+                return CollectionLikeType.upgradeFrom(type, type.containedTypeOrUnknown(0));
+            case MAP_LIKE:
+                return MapLikeType.upgradeFrom(type, type.containedTypeOrUnknown(0), type.containedTypeOrUnknown(1));
+            case REFERENCE:
+                return ReferenceType.upgradeFrom(type, type.containedTypeOrUnknown(0));
+            default:
+                return type;
         }
-        return type;
     }
 }
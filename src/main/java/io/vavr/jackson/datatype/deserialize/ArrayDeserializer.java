@@ -26,9 +26,6 @@ import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
 import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
 
 import static com.fasterxml.jackson.core.JsonToken.END_ARRAY;
 import static com.fasterxml.jackson.core.JsonToken.VALUE_NULL;
@@ -43,10 +40,10 @@ abstract class ArrayDeserializer<T> extends ValueDeserializer<T> implements Cont
     protected final JsonDeserializer<?> elementDeserializer;
     protected final boolean deserializeNullAsEmptyCollection;
 
-    ArrayDeserializer(JavaType collectionType, int typeCount, JavaType elementType,
+    ArrayDeserializer(JavaType collectionType, JavaType elementType,
                       TypeDeserializer elementTypeDeserializer, JsonDeserializer<?> elementDeserializer,
                       boolean deserializeNullAsEmptyCollection) {
-        super(collectionType, typeCount);
+        super(collectionType);
         this.collectionType = collectionType;
         this.elementType = elementType;
         this.elementTypeDeserializer = elementTypeDeserializer;
@@ -54,7 +51,13 @@ abstract class ArrayDeserializer<T> extends ValueDeserializer<T> implements Cont
         this.deserializeNullAsEmptyCollection = deserializeNullAsEmptyCollection;
     }
 
-    abstract T create(List<Object> list, DeserializationContext ctxt) throws JsonMappingException;
+    /**
+     * Creates a builder for the target collection.
+     *
+     * @param ctxt the deserialization context
+     * @return a new builder, which builds the shared empty collection when no element is added
+     */
+    abstract CollectionBuilder<T> builder(DeserializationContext ctxt) throws JsonMappingException;
 
     /**
      * Creates a new deserializer from the original one (this).
@@ -88,33 +91,49 @@ abstract class ArrayDeserializer<T> extends ValueDeserializer<T> implements Cont
             throw mappingException(context, collectionType.getRawClass(), parser.getCurrentToken());
         }
 
-        List<Object> elements = new ArrayList<>();
-        for (JsonToken jsonToken = parser.nextToken(); jsonToken != END_ARRAY; jsonToken = parser.nextToken()) {
-            Object element;
-            if (jsonToken == VALUE_NULL) {
-                element = elementDeserializer.getNullValue(context);
-            } else if (elementTypeDeserializer == null) {
-                element = elementDeserializer.deserialize(parser, context);
-            } else {
-                element = elementDeserializer.deserializeWithType(parser, context, elementTypeDeserializer);
-            }
-            elements.add(element);
+        return readElements(parser, context, builder(context), parser.nextToken());
+    }
+
+    /**
+     * Reads the remaining elements of the array, starting at the current token.
+     */
+    T readElements(JsonParser parser, DeserializationContext context, CollectionBuilder<T> builder,
+                   JsonToken first) throws IOException {
+        for (JsonToken jsonToken = first; jsonToken != END_ARRAY; jsonToken = parser.nextToken()) {
+            builder.add(readElement(parser, context, jsonToken));
         }
-        return create(elements, context);
+        return builder.build();
+    }
+
+    /**
+     * Reads the element at the current token.
+     */
+    Object readElement(JsonParser parser, DeserializationContext context, JsonToken token) throws IOException {
+        if (token == VALUE_NULL) {
+            return elementDeserializer.getNullValue(context);
+        }
+        if (elementTypeDeserializer == null) {
+            return elementDeserializer.deserialize(parser, context);
+        }
+        return elementDeserializer.deserializeWithType(parser, context, elementTypeDeserializer);
     }
 
     @Override
     public T getNullValue(DeserializationContext ctxt) throws JsonMappingException {
         if (deserializeNullAsEmptyCollection) {
-            return create(Collections.emptyList(), ctxt);
+            return builder(ctxt).build();
         }
         return super.getNullValue(ctxt);
     }
 
-    static void checkContainedTypeIsComparable(DeserializationContext ctxt, JavaType type) throws JsonMappingException {
+    static boolean isComparable(JavaType type) {
         Class<?> clz = type.getRawClass();
-        if (clz == Object.class || !Comparable.class.isAssignableFrom(clz)) {
-            throw mappingException(ctxt, clz, null);
+        return clz != Object.class && Comparable.class.isAssignableFrom(clz);
+    }
+
+    static void checkContainedTypeIsComparable(DeserializationContext ctxt, JavaType type) throws JsonMappingException {
+        if (!isComparable(type)) {
+            throw mappingException(ctxt, type.getRawClass(), null);
         }
     }
 }
@@ -0,0 +1,224 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2017 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.jackson.datatype.deserialize;
+
+import io.vavr.collection.*;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Accumulates deserialized elements straight into the target vavr collection,
+ * so that no intermediate {@link java.util.List} has to be kept around.
+ *
+ * @param <T> the type of the built collection
+ */
+abstract class CollectionBuilder<T> {
+
+    /**
+     * Creates a fresh builder for every deserialized value, resolved once per deserializer.
+     *
+     * @param <T> the type of the built collection
+     */
+    @FunctionalInterface
+    interface Factory<T> extends Serializable {
+        CollectionBuilder<T> create();
+    }
+
+    abstract void add(Object element);
+
+    abstract T build();
+
+    static CollectionBuilder<Seq<?>> list() {
+        return new ListBuilder();
+    }
+
+    static CollectionBuilder<Seq<?>> stream() {
+        return new StreamBuilder();
+    }
+
+    static CollectionBuilder<Seq<?>> queue() {
+        return new QueueBuilder();
+    }
+
+    static CollectionBuilder<Seq<?>> vector() {
+        return new VectorBuilder();
+    }
+
+    static CollectionBuilder<Seq<?>> array() {
+        return new ArrayBuilder();
+    }
+
+    static CollectionBuilder<Set<?>> hashSet() {
+        return new SetBuilder(HashSet.empty());
+    }
+
+    static CollectionBuilder<Set<?>> linkedHashSet() {
+        return new SetBuilder(LinkedHashSet.empty());
+    }
+
+    static CollectionBuilder<Set<?>> treeSet(Comparator<Object> comparator) {
+        return new SetBuilder(TreeSet.empty(comparator));
+    }
+
+    static CollectionBuilder<PriorityQueue<?>> priorityQueue(Comparator<Object> comparator) {
+        return new PriorityQueueBuilder(comparator);
+    }
+
+    /**
+     * Prepends every element and reverses once at the end.
+     */
+    private static class ListBuilder extends CollectionBuilder<Seq<?>> {
+
+        List<Object> reversed = List.empty();
+
+        @Override
+        void add(Object element) {
+            reversed = reversed.prepend(element);
+        }
+
+        @Override
+        Seq<?> build() {
+            return reversed.reverse();
+        }
+    }
+
+    private static final class StreamBuilder extends ListBuilder {
+
+        @Override
+        Seq<?> build() {
+            return reversed.isEmpty() ? Stream.empty() : Stream.ofAll(reversed.reverse());
+        }
+    }
+
+    private static final class QueueBuilder extends CollectionBuilder<Seq<?>> {
+
+        private Queue<Object> queue = Queue.empty();
+
+        @Override
+        void add(Object element) {
+            queue = queue.append(element);
+        }
+
+        @Override
+        Seq<?> build() {
+            return queue;
+        }
+    }
+
+    /**
+     * Fills one leaf worth of elements before appending it to the vector.
+     */
+    private static final class VectorBuilder extends CollectionBuilder<Seq<?>> {
+
+        private static final int LEAF_SIZE = 32;
+
+        private Vector<Object> vector = Vector.empty();
+        private Object[] leaf;
+        private int size;
+
+        @Override
+        void add(Object element) {
+            if (leaf == null) {
+                leaf = new Object[LEAF_SIZE];
+            } else if (size == LEAF_SIZE) {
+                flush();
+            }
+            leaf[size++] = element;
+        }
+
+        // the vector copies the elements, so the leaf can be reused
+        private void flush() {
+            vector = vector.appendAll(Arrays.asList(leaf).subList(0, size));
+            size = 0;
+        }
+
+        @Override
+        Seq<?> build() {
+            if (size > 0) {
+                flush();
+            }
+            return vector;
+        }
+    }
+
+    /**
+     * Array can only be created from a copy, so a single growing buffer is the best we can do.
+     */
+    private static final class ArrayBuilder extends CollectionBuilder<Seq<?>> {
+
+        private Object[] buffer;
+        private int size;
+
+        @Override
+        void add(Object element) {
+            if (buffer == null) {
+                buffer = new Object[16];
+            } else if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size + (size >> 1));
+            }
+            buffer[size++] = element;
+        }
+
+        @Override
+        Seq<?> build() {
+            return size == 0 ? Array.empty() : Array.ofAll(Arrays.asList(buffer).subList(0, size));
+        }
+    }
+
+    private static final class SetBuilder extends CollectionBuilder<Set<?>> {
+
+        private Set<Object> set;
+
+        SetBuilder(Set<Object> empty) {
+            this.set = empty;
+        }
+
+        @Override
+        void add(Object element) {
+            set = set.add(element);
+        }
+
+        @Override
+        Set<?> build() {
+            return set;
+        }
+    }
+
+    private static final class PriorityQueueBuilder extends CollectionBuilder<PriorityQueue<?>> {
+
+        private PriorityQueue<Object> queue;
+
+        PriorityQueueBuilder(Comparator<Object> comparator) {
+            this.queue = PriorityQueue.empty(comparator);
+        }
+
+        @Override
+        void add(Object element) {
+            queue = queue.enqueue(element);
+        }
+
+        @Override
+        PriorityQueue<?> build() {
+            return queue;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2017 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.jackson.datatype.deserialize;
+
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.InjectableValues;
+
+/**
+ * Looks up {@code @JacksonInject} values in the context of the original read call, for values bound later
+ * or elsewhere in a context of their own.
+ */
+class DelegatingInjectableValues extends InjectableValues {
+
+    private final DeserializationContext origin;
+
+    DelegatingInjectableValues(DeserializationContext origin) {
+        this.origin = origin;
+    }
+
+    @Override
+    public Object findInjectableValue(Object valueId, DeserializationContext ctxt, BeanProperty forProperty,
+                                      Object beanInstance) {
+        return origin.findInjectableValue(valueId, forProperty, beanInstance);
+    }
+}
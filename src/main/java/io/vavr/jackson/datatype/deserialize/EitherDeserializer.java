@@ -21,10 +21,10 @@ package io.vavr.jackson.datatype.deserialize;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
-import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
 
 import java.io.IOException;
 
@@ -32,16 +32,48 @@ import io.vavr.control.Either;
 
 import static com.fasterxml.jackson.core.JsonToken.*;
 
-class EitherDeserializer extends ValueDeserializer<Either<?, ?>> {
+class EitherDeserializer extends ValueDeserializer<Either<?, ?>> implements ContextualDeserializer {
 
     private static final long serialVersionUID = 1L;
 
+    private static final SerializedString LEFT = new SerializedString("left");
+    private static final SerializedString RIGHT = new SerializedString("right");
+    private static final SerializedString L = new SerializedString("l");
+    private static final SerializedString R = new SerializedString("r");
+
     private final JavaType javaType;
-    private JsonDeserializer<?> stringDeserializer;
+    private final JsonDeserializer<?> leftDeserializer;
+    private final TypeDeserializer leftTypeDeserializer;
+    private final JsonDeserializer<?> rightDeserializer;
+    private final TypeDeserializer rightTypeDeserializer;
 
     EitherDeserializer(JavaType valueType) {
-        super(valueType, 2);
+        this(valueType, null, null, null, null);
+    }
+
+    private EitherDeserializer(JavaType valueType,
+                               JsonDeserializer<?> leftDeserializer, TypeDeserializer leftTypeDeserializer,
+                               JsonDeserializer<?> rightDeserializer, TypeDeserializer rightTypeDeserializer) {
+        super(valueType);
         this.javaType = valueType;
+        this.leftDeserializer = leftDeserializer;
+        this.leftTypeDeserializer = leftTypeDeserializer;
+        this.rightDeserializer = rightDeserializer;
+        this.rightTypeDeserializer = rightTypeDeserializer;
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+        JavaType leftType = javaType.containedTypeOrUnknown(0);
+        JavaType rightType = javaType.containedTypeOrUnknown(1);
+        return new EitherDeserializer(javaType,
+                ctxt.findContextualValueDeserializer(leftType, property), typeDeserializer(ctxt, property, leftType),
+                ctxt.findContextualValueDeserializer(rightType, property), typeDeserializer(ctxt, property, rightType));
+    }
+
+    private static TypeDeserializer typeDeserializer(DeserializationContext ctxt, BeanProperty property, JavaType type) throws JsonMappingException {
+        TypeDeserializer typeDeser = ctxt.getFactory().findTypeDeserializer(ctxt.getConfig(), type);
+        return typeDeser == null ? null : typeDeser.forProperty(property);
     }
 
     @Override
@@ -49,63 +81,69 @@ class EitherDeserializer extends ValueDeserializer<Either<?, ?>> {
         final JsonToken nextToken = p.getCurrentToken();
 
         if (nextToken == START_ARRAY) {
-            boolean right = false;
-            Object value = null;
-            int cnt = 0;
-
-            for (JsonToken jsonToken = p.nextToken(); jsonToken != END_ARRAY; jsonToken = p.nextToken()) {
-                cnt++;
-                switch (cnt) {
-                    case 1:
-                        String def = (String) stringDeserializer.deserialize(p, ctxt);
-                        if (isRight(def)) {
-                            right = true;
-                        } else if (isLeft(def)) {
-                            right = false;
-                        } else {
-                            throw mappingException(ctxt, javaType.getRawClass(), jsonToken);
-                        }
-                        break;
-                    case 2:
-                        JsonDeserializer<?> deserializer = right ? deserializer(1) : deserializer(0);
-                        value = (jsonToken != VALUE_NULL) ? deserializer.deserialize(p, ctxt) : deserializer.getNullValue(ctxt);
-                        break;
-                }
+            JsonToken jsonToken = p.nextToken();
+            final boolean right;
+            if (jsonToken == VALUE_TRUE || jsonToken == VALUE_FALSE) {
+                // compact format
+                right = jsonToken == VALUE_TRUE;
+            } else if (jsonToken != VALUE_STRING) {
+                throw mappingException(ctxt, javaType.getRawClass(), jsonToken == END_ARRAY ? null : jsonToken);
+            } else if (matches(p, RIGHT) || matches(p, R)) {
+                right = true;
+            } else if (matches(p, LEFT) || matches(p, L)) {
+                right = false;
+            } else {
+                throw mappingException(ctxt, javaType.getRawClass(), jsonToken);
             }
-            if (cnt != 2) {
+            if (p.nextToken() == END_ARRAY) {
                 throw mappingException(ctxt, javaType.getRawClass(), null);
             }
+            final Object value = readValue(p, ctxt, right);
+            jsonToken = p.nextToken();
+            if (jsonToken != END_ARRAY) {
+                throw mappingException(ctxt, javaType.getRawClass(), jsonToken);
+            }
             return right ? Either.right(value) : Either.left(value);
         } else if (nextToken == START_OBJECT) {
-            final JsonToken currentToken = p.getCurrentToken();
-            final String type = p.nextFieldName();
-            if (isRight(type)) {
-                final JsonDeserializer<?> deserializer = deserializer(1);
-                final Object value = p.nextToken() != VALUE_NULL ? deserializer.deserialize(p, ctxt) : deserializer.getNullValue(ctxt);
-                return Either.right(value);
-            } else if (isLeft(type)) {
-                final JsonDeserializer<?> deserializer = deserializer(0);
-                final Object value = p.nextToken() != VALUE_NULL ? deserializer.deserialize(p, ctxt) : deserializer.getNullValue(ctxt);
-                return Either.left(value);
+            final boolean right;
+            if (p.nextFieldName(RIGHT)) {
+                right = true;
+            } else if (p.getCurrentToken() == FIELD_NAME && isRight(p.getCurrentName())) {
+                right = true;
+            } else if (p.getCurrentToken() == FIELD_NAME && isLeft(p.getCurrentName())) {
+                right = false;
             } else {
-                throw mappingException(ctxt, javaType.getRawClass(), currentToken);
+                throw mappingException(ctxt, javaType.getRawClass(), nextToken);
             }
+            p.nextToken();
+            final Object value = readValue(p, ctxt, right);
+            final JsonToken jsonToken = p.nextToken();
+            if (jsonToken != END_OBJECT) {
+                throw mappingException(ctxt, javaType.getRawClass(), jsonToken);
+            }
+            return right ? Either.right(value) : Either.left(value);
         } else {
             throw mappingException(ctxt, javaType.getRawClass(), p.getCurrentToken());
         }
     }
 
-    @Override
-    public void resolve(DeserializationContext ctxt) throws JsonMappingException {
-        super.resolve(ctxt);
-        stringDeserializer = ctxt.findContextualValueDeserializer(ctxt.constructType(String.class), null);
+    private Object readValue(JsonParser p, DeserializationContext ctxt, boolean right) throws IOException {
+        final JsonDeserializer<?> deserializer = right ? rightDeserializer : leftDeserializer;
+        if (p.getCurrentToken() == VALUE_NULL) {
+            return deserializer.getNullValue(ctxt);
+        }
+        final TypeDeserializer typeDeserializer = right ? rightTypeDeserializer : leftTypeDeserializer;
+        if (typeDeserializer == null) {
+            return deserializer.deserialize(p, ctxt);
+        }
+        return deserializer.deserializeWithType(p, ctxt, typeDeserializer);
     }
 
     private static boolean isRight(final String fieldName) {
-        return "right".equals(fieldName) || "r".equals(fieldName);
+        return RIGHT.getValue().equals(fieldName) || R.getValue().equals(fieldName);
     }
 
     private static boolean isLeft(final String fieldName) {
-        return "left".equals(fieldName) || "l".equals(fieldName);
+        return LEFT.getValue().equals(fieldName) || L.getValue().equals(fieldName);
     }
 }
@@ -20,12 +20,16 @@
 package io.vavr.jackson.datatype.deserialize;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
 import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.vavr.Lazy;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 
 class LazyDeserializer extends ValueDeserializer<Lazy<?>> implements ContextualDeserializer {
 
@@ -35,30 +39,57 @@ class LazyDeserializer extends ValueDeserializer<Lazy<?>> implements ContextualD
     private final JavaType valueType;
     private final TypeDeserializer valueTypeDeserializer;
     private final JsonDeserializer<?> valueDeserializer;
+    private final boolean deferred;
 
-    LazyDeserializer(JavaType fullType, JavaType valueType, TypeDeserializer typeDeser, JsonDeserializer<?> valueDeser) {
-        super(valueType, 1);
+    LazyDeserializer(JavaType fullType, JavaType valueType, TypeDeserializer typeDeser, JsonDeserializer<?> valueDeser,
+                     boolean deferred) {
+        super(valueType);
         this.fullType = fullType;
         this.valueType = valueType;
         this.valueTypeDeserializer = typeDeser;
         this.valueDeserializer = valueDeser;
+        this.deferred = deferred;
     }
 
     private LazyDeserializer(LazyDeserializer origin, TypeDeserializer typeDeser, JsonDeserializer<?> valueDeser) {
-        this(origin.fullType, origin.valueType, typeDeser, valueDeser);
+        this(origin.fullType, origin.valueType, typeDeser, valueDeser, origin.deferred);
     }
 
     @Override
     public Lazy<?> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        Object value;
-        if (valueTypeDeserializer == null) {
-            value = valueDeserializer.deserialize(p, ctxt);
-        } else {
-            value = valueDeserializer.deserializeWithType(p, ctxt, valueTypeDeserializer);
+        if (deferred && p.getCodec() != null && ctxt instanceof DefaultDeserializationContext) {
+            ObjectCodec codec = p.getCodec();
+            TokenBuffer tokens = new TokenBuffer(p, ctxt);
+            tokens.copyCurrentStructure(p);
+            // a fresh context of the same config, which still looks up @JacksonInject values in the one of this call
+            JsonParser parser = tokens.asParser(codec);
+            DeserializationContext context = ((DefaultDeserializationContext) ctxt).createInstance(ctxt.getConfig(), parser,
+                    new DelegatingInjectableValues(ctxt));
+            return Lazy.of(() -> bind(parser, context));
         }
+        Object value = read(p, ctxt);
         return Lazy.of(() -> value);
     }
 
+    private Object read(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (valueTypeDeserializer == null) {
+            return valueDeserializer.deserialize(p, ctxt);
+        }
+        return valueDeserializer.deserializeWithType(p, ctxt, valueTypeDeserializer);
+    }
+
+    /**
+     * Binds the buffered tokens with the contextual deserializers of this one.
+     */
+    private Object bind(JsonParser parser, DeserializationContext context) {
+        try (JsonParser p = parser) {
+            p.nextToken();
+            return read(p, context);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Override
     public Lazy<?> getNullValue(DeserializationContext ctxt) {
         return Lazy.of(() -> null);
@@ -27,8 +27,6 @@ import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.KeyDeserializer;
 import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
 import com.fasterxml.jackson.databind.type.MapLikeType;
-import io.vavr.Tuple;
-import io.vavr.Tuple2;
 import io.vavr.collection.*;
 
 import java.io.IOException;
@@ -37,13 +35,31 @@ class MapDeserializer extends MaplikeDeserializer<Map<?, ?>> {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * The empty target map, entries are put into it one by one.
+     */
+    private final Map<Object, Object> empty;
+
     MapDeserializer(MapLikeType mapType, KeyDeserializer keyDeserializer, TypeDeserializer elementTypeDeserializer,
                     JsonDeserializer<?> elementDeserializer, boolean deserializeNullAsEmpty) {
         super(mapType, keyDeserializer, elementTypeDeserializer, elementDeserializer, deserializeNullAsEmpty);
+        this.empty = createEmpty();
     }
 
     MapDeserializer(MapDeserializer origin, KeyDeserializer keyDeserializer, TypeDeserializer elementTypeDeserializer, JsonDeserializer<?> valueDeserializer) {
         super(origin.mapType, keyDeserializer, elementTypeDeserializer, valueDeserializer, origin.deserializeNullAsEmpty);
+        this.empty = origin.empty;
+    }
+
+    private Map<Object, Object> createEmpty() {
+        if (SortedMap.class.isAssignableFrom(handledType())) {
+            return TreeMap.empty(keyComparator);
+        }
+        if (LinkedHashMap.class.isAssignableFrom(handledType())) {
+            return LinkedHashMap.empty();
+        }
+        // default deserialization [...] -> Map
+        return HashMap.empty();
     }
 
     @Override
@@ -55,7 +71,7 @@ class MapDeserializer extends MaplikeDeserializer<Map<?, ?>> {
 
     @Override
     public Map<?, ?> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        final java.util.List<Tuple2<Object, Object>> result = new java.util.ArrayList<>();
+        Map<Object, Object> result = empty;
         if (p.getCurrentToken() != JsonToken.FIELD_NAME) {
             p.nextToken();
         }
@@ -72,23 +88,16 @@ class MapDeserializer extends MaplikeDeserializer<Map<?, ?>> {
             } else {
                 value = elementDeserializer.deserializeWithType(p, ctxt, elementTypeDeserializer);
             }
-            result.add(Tuple.of(key, value));
+            result = result.put(key, value);
             p.nextToken();
         }
-        if (SortedMap.class.isAssignableFrom(handledType())) {
-            return TreeMap.ofEntries(keyComparator, result);
-        }
-        if (LinkedHashMap.class.isAssignableFrom(handledType())) {
-            return LinkedHashMap.ofEntries(result);
-        }
-        // default deserialization [...] -> Map
-        return HashMap.ofEntries(result);
+        return result;
     }
 
     @Override
     public Map<?, ?> getNullValue(DeserializationContext context) throws JsonMappingException {
         if (deserializeNullAsEmpty) {
-            return HashMap.empty();
+            return empty;
         }
         return super.getNullValue(context);
     }
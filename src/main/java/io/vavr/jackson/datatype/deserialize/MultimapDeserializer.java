@@ -22,31 +22,44 @@ package io.vavr.jackson.datatype.deserialize;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.*;
-import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
 import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
 import com.fasterxml.jackson.databind.type.MapLikeType;
-import io.vavr.Tuple;
-import io.vavr.Tuple2;
 import io.vavr.collection.*;
 
 import java.io.IOException;
-import java.util.ArrayList;
 
-class MultimapDeserializer extends MaplikeDeserializer<Multimap<?, ?>> implements ResolvableDeserializer {
+import static io.vavr.jackson.datatype.deserialize.ValueDeserializer.mappingException;
+
+class MultimapDeserializer extends MaplikeDeserializer<Multimap<?, ?>> {
 
     private static final long serialVersionUID = 1L;
 
-    private JsonDeserializer<?> containerDeserializer;
+    /**
+     * The empty target multimap, values are put into it one by one.
+     */
+    private final Multimap<Object, Object> empty;
 
     MultimapDeserializer(MapLikeType mapType, KeyDeserializer keyDeserializer, TypeDeserializer elementTypeDeserializer,
                          JsonDeserializer<?> elementDeserializer, boolean deserializeNullAsEmpty) {
         super(mapType, keyDeserializer, elementTypeDeserializer, elementDeserializer, deserializeNullAsEmpty);
+        this.empty = createEmpty();
     }
 
     MultimapDeserializer(MultimapDeserializer origin, KeyDeserializer keyDeserializer,
                          TypeDeserializer elementTypeDeserializer, JsonDeserializer<?> elementDeserializer) {
         super(origin.mapType, keyDeserializer, elementTypeDeserializer, elementDeserializer, origin.deserializeNullAsEmpty);
-        containerDeserializer = origin.containerDeserializer;
+        this.empty = origin.empty;
+    }
+
+    private Multimap<Object, Object> createEmpty() {
+        if (TreeMultimap.class.isAssignableFrom(handledType())) {
+            return TreeMultimap.withSeq().empty(keyComparator);
+        }
+        if (LinkedHashMultimap.class.isAssignableFrom(handledType())) {
+            return LinkedHashMultimap.withSeq().empty();
+        }
+        // default deserialization [...] -> Map
+        return HashMultimap.withSeq().empty();
     }
 
     @Override
@@ -55,42 +68,45 @@ class MultimapDeserializer extends MaplikeDeserializer<Multimap<?, ?>> implement
         return new MultimapDeserializer(this, keyDeserializer, elementTypeDeserializer, elementDeserializer);
     }
 
-    @Override
-    public void resolve(DeserializationContext ctxt) throws JsonMappingException {
-        JavaType containerType = ctxt.getTypeFactory().constructCollectionType(ArrayList.class, mapType.getContentType());
-        containerDeserializer = ctxt.findContextualValueDeserializer(containerType, null);
-    }
-
     @Override
     public Multimap<?, ?> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        final java.util.List<Tuple2<Object, Object>> result = new java.util.ArrayList<>();
+        Multimap<Object, Object> result = empty;
         if (p.getCurrentToken() != JsonToken.FIELD_NAME) {
             p.nextToken();
         }
         while (p.getCurrentToken() != JsonToken.END_OBJECT) {
             String name = p.getCurrentName();
             Object key = keyDeserializer.deserializeKey(name, ctxt);
-            p.nextToken();
-            ArrayList<?> list = (ArrayList<?>) containerDeserializer.deserialize(p, ctxt);
-            for (Object elem : list) {
-                result.add(Tuple.of(key, elem));
+            JsonToken token = p.nextToken();
+            if (token != JsonToken.START_ARRAY) {
+                if (!ctxt.isEnabled(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)) {
+                    throw mappingException(ctxt, handledType(), token);
+                }
+                result = result.put(key, readValue(p, ctxt, token));
+            } else {
+                for (JsonToken t = p.nextToken(); t != JsonToken.END_ARRAY; t = p.nextToken()) {
+                    result = result.put(key, readValue(p, ctxt, t));
+                }
             }
             p.nextToken();
         }
-        if (TreeMultimap.class.isAssignableFrom(handledType())) {
-            return TreeMultimap.withSeq().ofEntries(keyComparator, result);
+        return result;
+    }
+
+    private Object readValue(JsonParser p, DeserializationContext ctxt, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return elementDeserializer.getNullValue(ctxt);
         }
-        if (LinkedHashMultimap.class.isAssignableFrom(handledType())) {
-            return LinkedHashMultimap.withSeq().ofEntries(result);
+        if (elementTypeDeserializer == null) {
+            return elementDeserializer.deserialize(p, ctxt);
         }
-        // default deserialization [...] -> Map
-        return HashMultimap.withSeq().ofEntries(result);
+        return elementDeserializer.deserializeWithType(p, ctxt, elementTypeDeserializer);
     }
 
     @Override
     public Multimap<?, ?> getNullValue(DeserializationContext context) throws JsonMappingException {
         if (deserializeNullAsEmpty) {
-            return HashMultimap.withSeq().empty();
+            return empty;
         }
         return super.getNullValue(context);
     }
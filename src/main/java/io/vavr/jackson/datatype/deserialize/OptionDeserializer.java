@@ -21,6 +21,7 @@ package io.vavr.jackson.datatype.deserialize;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
 import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
@@ -32,15 +33,17 @@ class OptionDeserializer extends ValueDeserializer<Option<?>> implements Context
 
     private static final long serialVersionUID = 1L;
 
+    private static final SerializedString DEFINED = new SerializedString("defined");
+    private static final SerializedString UNDEFINED = new SerializedString("undefined");
+
     private final JavaType fullType;
     private final JavaType valueType;
     private final boolean plainMode;
     private final TypeDeserializer valueTypeDeserializer;
     private final JsonDeserializer<?> valueDeserializer;
-    private JsonDeserializer<?> stringDeserializer;
 
     OptionDeserializer(JavaType fullType, JavaType valueType, TypeDeserializer typeDeser, JsonDeserializer<?> valueDeser, boolean plainMode) {
-        super(fullType, 1);
+        super(fullType);
         this.fullType = fullType;
         this.valueType = valueType;
         this.valueTypeDeserializer = typeDeser;
@@ -50,7 +53,6 @@ class OptionDeserializer extends ValueDeserializer<Option<?>> implements Context
 
     private OptionDeserializer(OptionDeserializer origin, TypeDeserializer typeDeser, JsonDeserializer<?> valueDeser) {
         this(origin.fullType, origin.valueType, typeDeser, valueDeser, origin.plainMode);
-        this.stringDeserializer = origin.stringDeserializer;
     }
 
     @Override
@@ -64,49 +66,39 @@ class OptionDeserializer extends ValueDeserializer<Option<?>> implements Context
                 return Option.of(obj);
             }
         }
-        boolean defined = false;
-        Object value = null;
-        int cnt = 0;
-        while (p.nextToken() != JsonToken.END_ARRAY) {
-            cnt++;
-            switch (cnt) {
-                case 1:
-                    JsonToken currentToken = p.getCurrentToken();
-                    String def = (String) stringDeserializer.deserialize(p, ctxt);
-                    if ("defined".equals(def)) {
-                        defined = true;
-                    } else if ("undefined".equals(def)) {
-                        defined = false;
-                    } else {
-                        throw mappingException(ctxt, fullType.getRawClass(), currentToken);
-                    }
-                    break;
-                case 2:
-                    if (valueTypeDeserializer == null) {
-                        value = valueDeserializer.deserialize(p, ctxt);
-                    } else {
-                        value = valueDeserializer.deserializeWithType(p, ctxt, valueTypeDeserializer);
-                    }
-                    break;
-            }
-        }
-        if (defined) {
-            if (cnt != 2) {
-                throw mappingException(ctxt, fullType.getRawClass(), null);
-            }
-            return Option.some(value);
+        JsonToken jsonToken = p.nextToken();
+        boolean defined;
+        if (jsonToken == JsonToken.VALUE_TRUE || jsonToken == JsonToken.VALUE_FALSE) {
+            // compact format
+            defined = jsonToken == JsonToken.VALUE_TRUE;
+        } else if (jsonToken != JsonToken.VALUE_STRING) {
+            throw mappingException(ctxt, fullType.getRawClass(), jsonToken == JsonToken.END_ARRAY ? null : jsonToken);
+        } else if (matches(p, DEFINED)) {
+            defined = true;
+        } else if (matches(p, UNDEFINED)) {
+            defined = false;
         } else {
-            if (cnt != 1) {
+            throw mappingException(ctxt, fullType.getRawClass(), jsonToken);
+        }
+        if (!defined) {
+            if (p.nextToken() != JsonToken.END_ARRAY) {
                 throw mappingException(ctxt, fullType.getRawClass(), null);
             }
             return Option.none();
         }
-    }
-
-    @Override
-    public void resolve(DeserializationContext ctxt) throws JsonMappingException {
-        super.resolve(ctxt);
-        stringDeserializer = ctxt.findContextualValueDeserializer(ctxt.constructType(String.class), null);
+        if (p.nextToken() == JsonToken.END_ARRAY) {
+            throw mappingException(ctxt, fullType.getRawClass(), null);
+        }
+        Object value;
+        if (valueTypeDeserializer == null) {
+            value = valueDeserializer.deserialize(p, ctxt);
+        } else {
+            value = valueDeserializer.deserializeWithType(p, ctxt, valueTypeDeserializer);
+        }
+        if (p.nextToken() != JsonToken.END_ARRAY) {
+            throw mappingException(ctxt, fullType.getRawClass(), null);
+        }
+        return Option.some(value);
     }
 
     @Override
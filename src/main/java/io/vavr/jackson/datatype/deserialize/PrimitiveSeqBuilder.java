@@ -0,0 +1,253 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2017 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.jackson.datatype.deserialize;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.deser.std.NumberDeserializers;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Arrays;
+
+import static com.fasterxml.jackson.core.JsonParser.NumberType.INT;
+import static com.fasterxml.jackson.core.JsonParser.NumberType.LONG;
+
+/**
+ * Accumulates {@code Integer}, {@code Long}, {@code Double} or {@code Boolean} elements into a primitive array
+ * and builds the target seq from it, e.g. through {@link Vector#ofAll(double...)}.
+ * Only plain tokens are taken, anything else is left to the generic element deserializer.
+ *
+ * @param <A> the type of the primitive array
+ */
+abstract class PrimitiveSeqBuilder<A> {
+
+    @FunctionalInterface
+    interface Factory extends Serializable {
+        PrimitiveSeqBuilder<?> create();
+    }
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final SeqTarget target;
+    A elements;
+    int size;
+    private int capacity = INITIAL_CAPACITY;
+
+    PrimitiveSeqBuilder(SeqTarget target, A elements) {
+        this.target = target;
+        this.elements = elements;
+    }
+
+    /**
+     * @param elementDeserializer the class of the element deserializer, only the default one is replaced
+     * @return the builder factory or {@code null} if the elements need the generic path
+     */
+    static Factory factory(SeqTarget target, Class<?> elementType, Class<?> elementDeserializer) {
+        if (elementType == Integer.class && elementDeserializer == NumberDeserializers.IntegerDeserializer.class) {
+            return () -> new Ints(target);
+        }
+        if (elementType == Long.class && elementDeserializer == NumberDeserializers.LongDeserializer.class) {
+            return () -> new Longs(target);
+        }
+        if (elementType == Double.class && elementDeserializer == NumberDeserializers.DoubleDeserializer.class) {
+            return () -> new Doubles(target);
+        }
+        if (elementType == Boolean.class && elementDeserializer == NumberDeserializers.BooleanDeserializer.class) {
+            return () -> new Booleans(target);
+        }
+        return null;
+    }
+
+    /**
+     * @return {@code false} if the current token was not taken
+     */
+    final boolean add(JsonParser p, JsonToken token) throws IOException {
+        if (!accepts(p, token)) {
+            return false;
+        }
+        if (size == capacity) {
+            capacity = size + (size >> 1);
+            elements = copyOf(elements, capacity);
+        }
+        store(size++, p, token);
+        return true;
+    }
+
+    final Seq<?> build() {
+        if (target == SeqTarget.VECTOR) {
+            // keeps the elements in primitive leaves, which takes an array of the exact size
+            return vector(size == capacity ? elements : copyOf(elements, size));
+        }
+        return target.ofAll.apply(iterator(elements).take(size));
+    }
+
+    /**
+     * Hands the elements taken so far over to the generic builder.
+     */
+    final void drainTo(CollectionBuilder<Seq<?>> builder) {
+        iterator(elements).take(size).forEach(builder::add);
+    }
+
+    abstract boolean accepts(JsonParser p, JsonToken token) throws IOException;
+
+    abstract void store(int index, JsonParser p, JsonToken token) throws IOException;
+
+    abstract A copyOf(A elements, int length);
+
+    abstract Iterator<?> iterator(A elements);
+
+    abstract Vector<?> vector(A elements);
+
+    private static final class Ints extends PrimitiveSeqBuilder<int[]> {
+
+        Ints(SeqTarget target) {
+            super(target, new int[INITIAL_CAPACITY]);
+        }
+
+        @Override
+        boolean accepts(JsonParser p, JsonToken token) throws IOException {
+            return token == JsonToken.VALUE_NUMBER_INT && p.getNumberType() == INT;
+        }
+
+        @Override
+        void store(int index, JsonParser p, JsonToken token) throws IOException {
+            elements[index] = p.getIntValue();
+        }
+
+        @Override
+        int[] copyOf(int[] elements, int length) {
+            return Arrays.copyOf(elements, length);
+        }
+
+        @Override
+        Iterator<?> iterator(int[] elements) {
+            return Iterator.ofAll(elements);
+        }
+
+        @Override
+        Vector<?> vector(int[] elements) {
+            return Vector.ofAll(elements);
+        }
+    }
+
+    private static final class Longs extends PrimitiveSeqBuilder<long[]> {
+
+        Longs(SeqTarget target) {
+            super(target, new long[INITIAL_CAPACITY]);
+        }
+
+        @Override
+        boolean accepts(JsonParser p, JsonToken token) throws IOException {
+            if (token != JsonToken.VALUE_NUMBER_INT) {
+                return false;
+            }
+            JsonParser.NumberType type = p.getNumberType();
+            return type == INT || type == LONG;
+        }
+
+        @Override
+        void store(int index, JsonParser p, JsonToken token) throws IOException {
+            elements[index] = p.getLongValue();
+        }
+
+        @Override
+        long[] copyOf(long[] elements, int length) {
+            return Arrays.copyOf(elements, length);
+        }
+
+        @Override
+        Iterator<?> iterator(long[] elements) {
+            return Iterator.ofAll(elements);
+        }
+
+        @Override
+        Vector<?> vector(long[] elements) {
+            return Vector.ofAll(elements);
+        }
+    }
+
+    private static final class Doubles extends PrimitiveSeqBuilder<double[]> {
+
+        Doubles(SeqTarget target) {
+            super(target, new double[INITIAL_CAPACITY]);
+        }
+
+        @Override
+        boolean accepts(JsonParser p, JsonToken token) {
+            return token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_NUMBER_INT;
+        }
+
+        @Override
+        void store(int index, JsonParser p, JsonToken token) throws IOException {
+            elements[index] = p.getDoubleValue();
+        }
+
+        @Override
+        double[] copyOf(double[] elements, int length) {
+            return Arrays.copyOf(elements, length);
+        }
+
+        @Override
+        Iterator<?> iterator(double[] elements) {
+            return Iterator.ofAll(elements);
+        }
+
+        @Override
+        Vector<?> vector(double[] elements) {
+            return Vector.ofAll(elements);
+        }
+    }
+
+    private static final class Booleans extends PrimitiveSeqBuilder<boolean[]> {
+
+        Booleans(SeqTarget target) {
+            super(target, new boolean[INITIAL_CAPACITY]);
+        }
+
+        @Override
+        boolean accepts(JsonParser p, JsonToken token) {
+            return token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE;
+        }
+
+        @Override
+        void store(int index, JsonParser p, JsonToken token) {
+            elements[index] = token == JsonToken.VALUE_TRUE;
+        }
+
+        @Override
+        boolean[] copyOf(boolean[] elements, int length) {
+            return Arrays.copyOf(elements, length);
+        }
+
+        @Override
+        Iterator<?> iterator(boolean[] elements) {
+            return Iterator.ofAll(elements);
+        }
+
+        @Override
+        Vector<?> vector(boolean[] elements) {
+            return Vector.ofAll(elements);
+        }
+    }
+}
@@ -25,7 +25,6 @@ import io.vavr.collection.PriorityQueue;
 
 import java.io.Serializable;
 import java.util.Comparator;
-import java.util.List;
 
 class PriorityQueueDeserializer extends ArrayDeserializer<PriorityQueue<?>> {
 
@@ -33,7 +32,7 @@ class PriorityQueueDeserializer extends ArrayDeserializer<PriorityQueue<?>> {
 
     PriorityQueueDeserializer(JavaType collectionType, JavaType elementType, TypeDeserializer elementTypeDeserializer,
                               JsonDeserializer<?> elementDeserializer, boolean deserializeNullAsEmptyCollection) {
-        super(collectionType, 1, elementType, elementTypeDeserializer, elementDeserializer, deserializeNullAsEmptyCollection);
+        super(collectionType, elementType, elementTypeDeserializer, elementDeserializer, deserializeNullAsEmptyCollection);
     }
 
     /**
@@ -51,9 +50,9 @@ class PriorityQueueDeserializer extends ArrayDeserializer<PriorityQueue<?>> {
 
     @SuppressWarnings("unchecked")
     @Override
-    PriorityQueue<?> create(List<Object> list, DeserializationContext ctxt) throws JsonMappingException {
+    CollectionBuilder<PriorityQueue<?>> builder(DeserializationContext ctxt) throws JsonMappingException {
         checkContainedTypeIsComparable(ctxt, collectionType.containedTypeOrUnknown(0));
-        return PriorityQueue.ofAll((Comparator<Object> & Serializable) (o1, o2) -> ((Comparable) o1).compareTo(o2), list);
+        return CollectionBuilder.priorityQueue((Comparator<Object> & Serializable) (o1, o2) -> ((Comparable) o1).compareTo(o2));
     }
 
     @Override
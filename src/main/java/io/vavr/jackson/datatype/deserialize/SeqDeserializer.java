@@ -19,19 +19,49 @@
  */
 package io.vavr.jackson.datatype.deserialize;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
 import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.vavr.collection.*;
+import io.vavr.jackson.datatype.ParallelTasks;
+import io.vavr.jackson.datatype.VavrModule;
 
-import java.util.List;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import static com.fasterxml.jackson.core.JsonToken.END_ARRAY;
 
 class SeqDeserializer extends ArrayDeserializer<Seq<?>> {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Chunks in flight per thread of the pool, which bounds the copied tokens held in memory.
+     */
+    private static final int IN_FLIGHT_CHUNKS_PER_THREAD = 2;
+
+    private final SeqTarget target;
+    private final PrimitiveSeqBuilder.Factory primitiveFactory;
+    private final VavrModule.Settings settings;
+
+    /**
+     * @param settings the parallel mode, doesn't apply if {@code null}
+     */
     SeqDeserializer(JavaType collectionType, JavaType elementType, TypeDeserializer elementTypeDeserializer,
-                    JsonDeserializer<?> elementDeserializer, boolean deserializeNullAsEmptyCollection) {
-        super(collectionType, 1, elementType, elementTypeDeserializer, elementDeserializer, deserializeNullAsEmptyCollection);
+                    JsonDeserializer<?> elementDeserializer, boolean deserializeNullAsEmptyCollection,
+                    VavrModule.Settings settings) {
+        super(collectionType, elementType, elementTypeDeserializer, elementDeserializer, deserializeNullAsEmptyCollection);
+        this.target = SeqTarget.of(collectionType.getRawClass());
+        this.primitiveFactory = null;
+        this.settings = settings;
     }
 
     /**
@@ -43,29 +73,136 @@ class SeqDeserializer extends ArrayDeserializer<Seq<?>> {
      */
     private SeqDeserializer(SeqDeserializer origin, TypeDeserializer elementTypeDeserializer,
                             JsonDeserializer<?> elementDeserializer) {
-        this(origin.collectionType, origin.elementType, elementTypeDeserializer, elementDeserializer,
+        super(origin.collectionType, origin.elementType, elementTypeDeserializer, elementDeserializer,
                 origin.deserializeNullAsEmptyCollection);
+        this.target = origin.target;
+        this.primitiveFactory = primitiveFactory(origin.target, origin.elementType, elementTypeDeserializer,
+                elementDeserializer);
+        this.settings = origin.settings;
+    }
+
+    // custom element deserializers and polymorphic elements keep the generic path
+    private static PrimitiveSeqBuilder.Factory primitiveFactory(SeqTarget target, JavaType elementType,
+                                                                TypeDeserializer elementTypeDeserializer,
+                                                                JsonDeserializer<?> elementDeserializer) {
+        if (elementTypeDeserializer != null || elementDeserializer == null) {
+            return null;
+        }
+        return PrimitiveSeqBuilder.factory(target, elementType.getRawClass(), elementDeserializer.getClass());
     }
 
     @Override
-    Seq<?> create(List<Object> result, DeserializationContext ctxt) throws JsonMappingException {
-        if (Array.class.isAssignableFrom(collectionType.getRawClass())) {
-            return Array.ofAll(result);
+    public Seq<?> deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (!parser.isExpectedStartArrayToken()) {
+            return super.deserialize(parser, context);
         }
-        if (Queue.class.isAssignableFrom(collectionType.getRawClass())) {
-            return Queue.ofAll(result);
+        if (primitiveFactory == null) {
+            if (settings != null && settings.parallelDeserializationPool() != null
+                    && settings.parallelDeserializationThreshold() > 0 && !usesObjectIds(context)) {
+                return deserializeInParallel(parser, context);
+            }
+            return super.deserialize(parser, context);
         }
-        if (Stream.class.isAssignableFrom(collectionType.getRawClass())) {
-            return Stream.ofAll(result);
+        PrimitiveSeqBuilder<?> primitives = primitiveFactory.create();
+        JsonToken token = parser.nextToken();
+        while (token != END_ARRAY && primitives.add(parser, token)) {
+            token = parser.nextToken();
         }
-        if (Vector.class.isAssignableFrom(collectionType.getRawClass())) {
-            return Vector.ofAll(result);
+        if (token == END_ARRAY) {
+            return primitives.size == 0 ? builder(context).build() : primitives.build();
         }
-        if (IndexedSeq.class.isAssignableFrom(collectionType.getRawClass())) {
-            return Array.ofAll(result);
+        // e.g. a null element, continue boxed from here
+        CollectionBuilder<Seq<?>> builder = builder(context);
+        primitives.drainTo(builder);
+        return readElements(parser, context, builder, token);
+    }
+
+    /**
+     * @return {@code true} if the elements are bound with object ids, which only a single context can resolve
+     */
+    private boolean usesObjectIds(DeserializationContext context) {
+        if (elementDeserializer != null && elementDeserializer.getObjectIdReader() != null) {
+            return true;
         }
-        // default deserialization [...] -> Seq
-        return io.vavr.collection.List.ofAll(result);
+        AnnotationIntrospector intr = context.getAnnotationIntrospector();
+        return intr != null
+                && intr.findObjectIdInfo(context.getConfig().introspectClassAnnotations(elementType).getClassInfo()) != null;
+    }
+
+    /**
+     * Binds the first {@code threshold} elements right away. The rest is cut into chunks of {@code threshold}
+     * elements, each copied into a {@link TokenBuffer} and bound on the pool with its own context, while the
+     * parser goes on with the next chunk. Bound chunks are added to the builder in order as soon as possible,
+     * the oldest one is waited for once {@link #IN_FLIGHT_CHUNKS_PER_THREAD} chunks per thread are in flight.
+     */
+    private Seq<?> deserializeInParallel(JsonParser parser, DeserializationContext context) throws IOException {
+        int threshold = settings.parallelDeserializationThreshold();
+        CollectionBuilder<Seq<?>> builder = builder(context);
+        JsonToken token = parser.nextToken();
+        for (int i = 0; i < threshold && token != END_ARRAY; i++) {
+            builder.add(readElement(parser, context, token));
+            token = parser.nextToken();
+        }
+        ObjectCodec codec = parser.getCodec();
+        if (token == END_ARRAY || codec == null || !(context instanceof DefaultDeserializationContext)) {
+            return readElements(parser, context, builder, token);
+        }
+        ForkJoinPool pool = settings.parallelDeserializationPool();
+        int maxPending = pool.getParallelism() * IN_FLIGHT_CHUNKS_PER_THREAD;
+        Deque<ForkJoinTask<Object[]>> pending = new ArrayDeque<>();
+        try {
+            while (token != END_ARRAY) {
+                TokenBuffer chunk = new TokenBuffer(parser, context);
+                int count = 0;
+                for (; count < threshold && token != END_ARRAY; count++) {
+                    if (token == null) {
+                        throw mappingException(context, collectionType.getRawClass(), null);
+                    }
+                    chunk.copyCurrentStructure(parser);
+                    token = parser.nextToken();
+                }
+                if (pending.size() >= maxPending) {
+                    addAll(builder, pending.pollFirst());
+                }
+                pending.add(pool.submit(bindChunk(chunk, count, codec, (DefaultDeserializationContext) context)));
+                while (!pending.isEmpty() && pending.peekFirst().isDone()) {
+                    addAll(builder, pending.pollFirst());
+                }
+            }
+            while (!pending.isEmpty()) {
+                addAll(builder, pending.pollFirst());
+            }
+        } finally {
+            for (ForkJoinTask<Object[]> task : pending) {
+                task.cancel(false);
+            }
+        }
+        return builder.build();
+    }
+
+    private Callable<Object[]> bindChunk(TokenBuffer chunk, int count, ObjectCodec codec, DefaultDeserializationContext context) {
+        // @JacksonInject values still come from the original context
+        InjectableValues injectables = new DelegatingInjectableValues(context);
+        return () -> {
+            JsonParser parser = chunk.asParser(codec);
+            DeserializationContext ctxt = context.createInstance(context.getConfig(), parser, injectables);
+            Object[] elements = new Object[count];
+            for (int i = 0; i < count; i++) {
+                elements[i] = readElement(parser, ctxt, parser.nextToken());
+            }
+            return elements;
+        };
+    }
+
+    private static void addAll(CollectionBuilder<Seq<?>> builder, ForkJoinTask<Object[]> task) throws IOException {
+        for (Object element : ParallelTasks.join(task)) {
+            builder.add(element);
+        }
+    }
+
+    @Override
+    CollectionBuilder<Seq<?>> builder(DeserializationContext ctxt) {
+        return target.builders.create();
     }
 
     @Override
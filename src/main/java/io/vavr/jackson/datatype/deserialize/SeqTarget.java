@@ -0,0 +1,64 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2017 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.jackson.datatype.deserialize;
+
+import io.vavr.collection.*;
+
+import java.util.function.Function;
+
+/**
+ * The seq implementation built for a requested seq type, along with its builders.
+ */
+enum SeqTarget {
+
+    ARRAY(CollectionBuilder::array, Array::ofAll),
+    QUEUE(CollectionBuilder::queue, Queue::ofAll),
+    STREAM(CollectionBuilder::stream, Stream::ofAll),
+    VECTOR(CollectionBuilder::vector, Vector::ofAll),
+    LIST(CollectionBuilder::list, List::ofAll);
+
+    final CollectionBuilder.Factory<Seq<?>> builders;
+    final Function<Iterator<?>, Seq<?>> ofAll;
+
+    SeqTarget(CollectionBuilder.Factory<Seq<?>> builders, Function<Iterator<?>, Seq<?>> ofAll) {
+        this.builders = builders;
+        this.ofAll = ofAll;
+    }
+
+    static SeqTarget of(Class<?> raw) {
+        if (Array.class.isAssignableFrom(raw)) {
+            return ARRAY;
+        }
+        if (Queue.class.isAssignableFrom(raw)) {
+            return QUEUE;
+        }
+        if (Stream.class.isAssignableFrom(raw)) {
+            return STREAM;
+        }
+        if (Vector.class.isAssignableFrom(raw)) {
+            return VECTOR;
+        }
+        if (IndexedSeq.class.isAssignableFrom(raw)) {
+            return ARRAY;
+        }
+        // default deserialization [...] -> Seq
+        return LIST;
+    }
+}
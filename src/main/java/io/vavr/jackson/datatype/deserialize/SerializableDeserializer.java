@@ -20,37 +20,74 @@
 package io.vavr.jackson.datatype.deserialize;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import io.vavr.jackson.datatype.VavrModule;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
+import java.util.Map;
 
-class SerializableDeserializer<T> extends StdDeserializer<T> {
+class SerializableDeserializer<T> extends StdDeserializer<T> implements ResolvableDeserializer {
 
     private static final long serialVersionUID = 1L;
 
-    SerializableDeserializer(JavaType valueType) {
+    private final Map<String, Object> registeredFunctions;
+    private JsonDeserializer<Object> bytesDeserializer;
+
+    SerializableDeserializer(JavaType valueType, VavrModule.Settings settings) {
         super(valueType);
+        this.registeredFunctions = settings.registeredFunctions();
     }
 
+    @Override
+    public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+        bytesDeserializer = ctxt.findRootValueDeserializer(ctxt.constructType(byte[].class));
+    }
+
+    @SuppressWarnings("unchecked")
     @Override
     public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonDeserializer<Object> deserializer = ctxt.findRootValueDeserializer(ctxt.constructType(byte[].class));
-        byte[] bytes = (byte[]) deserializer.deserialize(p, ctxt);
-        return deserialize(bytes);
+        if (p.getCurrentToken() == JsonToken.VALUE_STRING) {
+            if (!registeredFunctions.isEmpty()) {
+                Object function = registeredFunctions.get(p.getText());
+                if (handledType().isInstance(function)) {
+                    return (T) function;
+                }
+            }
+            // decode the base64 text straight into the buffer the object stream reads from
+            Buffer buf = new Buffer();
+            p.readBinaryValue(ctxt.getBase64Variant(), buf);
+            return deserialize(buf.toInputStream());
+        }
+        byte[] bytes = (byte[]) bytesDeserializer.deserialize(p, ctxt);
+        return deserialize(new ByteArrayInputStream(bytes));
     }
 
     @SuppressWarnings("unchecked")
-    private static <T> T deserialize(byte[] objectData) {
-        try {
-            ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(objectData));
+    private static <T> T deserialize(InputStream objectData) {
+        try (ObjectInputStream stream = new ObjectInputStream(objectData)) {
             return (T) stream.readObject();
         } catch (Exception x) {
             throw new IllegalStateException("Error deserializing object", x);
         }
     }
+
+    /**
+     * Exposes its internal buffer for reading instead of copying it with {@code toByteArray()}.
+     */
+    private static final class Buffer extends ByteArrayOutputStream {
+
+        InputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
 }
@@ -24,20 +24,24 @@ import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
-import io.vavr.collection.HashSet;
 import io.vavr.collection.Set;
 
 import java.io.Serializable;
 import java.util.Comparator;
-import java.util.List;
 
 class SetDeserializer extends ArrayDeserializer<Set<?>> {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Null for sorted sets of elements which are not comparable.
+     */
+    private final CollectionBuilder.Factory<Set<?>> builderFactory;
+
     SetDeserializer(JavaType collectionType, JavaType elementType, TypeDeserializer elementTypeDeserializer,
                     JsonDeserializer<?> elementDeserializer, boolean deserializeNullAsEmptyCollection) {
-        super(collectionType, 1, elementType, elementTypeDeserializer, elementDeserializer, deserializeNullAsEmptyCollection);
+        super(collectionType, elementType, elementTypeDeserializer, elementDeserializer, deserializeNullAsEmptyCollection);
+        this.builderFactory = builderFactory(collectionType);
     }
 
     /**
@@ -49,22 +53,33 @@ class SetDeserializer extends ArrayDeserializer<Set<?>> {
      */
     private SetDeserializer(SetDeserializer origin, TypeDeserializer elementTypeDeserializer,
                             JsonDeserializer<?> elementDeserializer) {
-        this(origin.collectionType, origin.elementType, elementTypeDeserializer, elementDeserializer,
+        super(origin.collectionType, origin.elementType, elementTypeDeserializer, elementDeserializer,
                 origin.deserializeNullAsEmptyCollection);
+        this.builderFactory = origin.builderFactory;
     }
 
     @SuppressWarnings("unchecked")
-    @Override
-    Set<?> create(List<Object> result, DeserializationContext ctx) throws JsonMappingException {
+    private static CollectionBuilder.Factory<Set<?>> builderFactory(JavaType collectionType) {
         if (io.vavr.collection.SortedSet.class.isAssignableFrom(collectionType.getRawClass())) {
-            checkContainedTypeIsComparable(ctx, collectionType.containedTypeOrUnknown(0));
-            return io.vavr.collection.TreeSet.ofAll((Comparator<Object> & Serializable) (o1, o2) -> ((Comparable) o1).compareTo(o2), result);
+            if (!isComparable(collectionType.containedTypeOrUnknown(0))) {
+                return null;
+            }
+            Comparator<Object> comparator = (Comparator<Object> & Serializable) (o1, o2) -> ((Comparable) o1).compareTo(o2);
+            return () -> CollectionBuilder.treeSet(comparator);
         }
         if (io.vavr.collection.LinkedHashSet.class.isAssignableFrom(collectionType.getRawClass())) {
-            return io.vavr.collection.LinkedHashSet.ofAll(result);
+            return CollectionBuilder::linkedHashSet;
         }
         // default deserialization [...] -> Set
-        return HashSet.ofAll(result);
+        return CollectionBuilder::hashSet;
+    }
+
+    @Override
+    CollectionBuilder<Set<?>> builder(DeserializationContext ctx) throws JsonMappingException {
+        if (builderFactory == null) {
+            checkContainedTypeIsComparable(ctx, collectionType.containedTypeOrUnknown(0));
+        }
+        return builderFactory.create();
     }
 
     @Override
@@ -19,21 +19,34 @@
  */
 package io.vavr.jackson.datatype.deserialize;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
 import io.vavr.Tuple;
 import io.vavr.Tuple0;
 
-import java.util.List;
+import java.io.IOException;
 
 class Tuple0Deserializer extends TupleDeserializer<Tuple0> {
 
     Tuple0Deserializer(JavaType valueType) {
-        super(valueType);
+        super(valueType, 0);
+    }
+
+    private Tuple0Deserializer(Tuple0Deserializer origin, JsonDeserializer<Object>[] slotDeserializers,
+                              TypeDeserializer[] slotTypeDeserializers) {
+        super(origin, slotDeserializers, slotTypeDeserializers);
+    }
+
+    @Override
+    Tuple0Deserializer createDeserializer(JsonDeserializer<Object>[] slotDeserializers, TypeDeserializer[] slotTypeDeserializers) {
+        return new Tuple0Deserializer(this, slotDeserializers, slotTypeDeserializers);
     }
 
     @Override
-    Tuple0 create(List<Object> list, DeserializationContext ctxt) {
+    Tuple0 readElements(JsonParser p, DeserializationContext ctxt) throws IOException {
         return Tuple.empty();
     }
 }
@@ -19,21 +19,35 @@
  */
 package io.vavr.jackson.datatype.deserialize;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
 import io.vavr.Tuple;
 import io.vavr.Tuple1;
 
-import java.util.List;
+import java.io.IOException;
 
 class Tuple1Deserializer extends TupleDeserializer<Tuple1<?>> {
 
     Tuple1Deserializer(JavaType valueType) {
-        super(valueType);
+        super(valueType, 1);
+    }
+
+    private Tuple1Deserializer(Tuple1Deserializer origin, JsonDeserializer<Object>[] slotDeserializers,
+                              TypeDeserializer[] slotTypeDeserializers) {
+        super(origin, slotDeserializers, slotTypeDeserializers);
+    }
+
+    @Override
+    Tuple1Deserializer createDeserializer(JsonDeserializer<Object>[] slotDeserializers, TypeDeserializer[] slotTypeDeserializers) {
+        return new Tuple1Deserializer(this, slotDeserializers, slotTypeDeserializers);
     }
 
     @Override
-    Tuple1<?> create(List<Object> list, DeserializationContext ctxt) {
-        return Tuple.of(list.get(0));
+    Tuple1<?> readElements(JsonParser p, DeserializationContext ctxt) throws IOException {
+        Object _1 = readElement(p, ctxt, 0);
+        return Tuple.of(_1);
     }
 }
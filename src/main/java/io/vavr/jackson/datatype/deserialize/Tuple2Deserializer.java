@@ -19,21 +19,36 @@
  */
 package io.vavr.jackson.datatype.deserialize;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
 import io.vavr.Tuple;
 import io.vavr.Tuple2;
 
-import java.util.List;
+import java.io.IOException;
 
 class Tuple2Deserializer extends TupleDeserializer<Tuple2<?, ?>> {
 
     Tuple2Deserializer(JavaType valueType) {
-        super(valueType);
+        super(valueType, 2);
+    }
+
+    private Tuple2Deserializer(Tuple2Deserializer origin, JsonDeserializer<Object>[] slotDeserializers,
+                              TypeDeserializer[] slotTypeDeserializers) {
+        super(origin, slotDeserializers, slotTypeDeserializers);
+    }
+
+    @Override
+    Tuple2Deserializer createDeserializer(JsonDeserializer<Object>[] slotDeserializers, TypeDeserializer[] slotTypeDeserializers) {
+        return new Tuple2Deserializer(this, slotDeserializers, slotTypeDeserializers);
     }
 
     @Override
-    Tuple2<?, ?> create(List<Object> list, DeserializationContext ctxt) {
-        return Tuple.of(list.get(0), list.get(1));
+    Tuple2<?, ?> readElements(JsonParser p, DeserializationContext ctxt) throws IOException {
+        Object _1 = readElement(p, ctxt, 0);
+        Object _2 = readElement(p, ctxt, 1);
+        return Tuple.of(_1, _2);
     }
 }
@@ -19,21 +19,37 @@
  */
 package io.vavr.jackson.datatype.deserialize;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
 import io.vavr.Tuple;
 import io.vavr.Tuple3;
 
-import java.util.List;
+import java.io.IOException;
 
 class Tuple3Deserializer extends TupleDeserializer<Tuple3<?, ?, ?>> {
 
     Tuple3Deserializer(JavaType valueType) {
-        super(valueType);
+        super(valueType, 3);
+    }
+
+    private Tuple3Deserializer(Tuple3Deserializer origin, JsonDeserializer<Object>[] slotDeserializers,
+                              TypeDeserializer[] slotTypeDeserializers) {
+        super(origin, slotDeserializers, slotTypeDeserializers);
+    }
+
+    @Override
+    Tuple3Deserializer createDeserializer(JsonDeserializer<Object>[] slotDeserializers, TypeDeserializer[] slotTypeDeserializers) {
+        return new Tuple3Deserializer(this, slotDeserializers, slotTypeDeserializers);
     }
 
     @Override
-    Tuple3<?, ?, ?> create(List<Object> list, DeserializationContext ctxt) {
-        return Tuple.of(list.get(0), list.get(1), list.get(2));
+    Tuple3<?, ?, ?> readElements(JsonParser p, DeserializationContext ctxt) throws IOException {
+        Object _1 = readElement(p, ctxt, 0);
+        Object _2 = readElement(p, ctxt, 1);
+        Object _3 = readElement(p, ctxt, 2);
+        return Tuple.of(_1, _2, _3);
     }
 }
@@ -19,21 +19,38 @@
  */
 package io.vavr.jackson.datatype.deserialize;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
 import io.vavr.Tuple;
 import io.vavr.Tuple4;
 
-import java.util.List;
+import java.io.IOException;
 
 class Tuple4Deserializer extends TupleDeserializer<Tuple4<?, ?, ?, ?>> {
 
     Tuple4Deserializer(JavaType valueType) {
-        super(valueType);
+        super(valueType, 4);
+    }
+
+    private Tuple4Deserializer(Tuple4Deserializer origin, JsonDeserializer<Object>[] slotDeserializers,
+                              TypeDeserializer[] slotTypeDeserializers) {
+        super(origin, slotDeserializers, slotTypeDeserializers);
+    }
+
+    @Override
+    Tuple4Deserializer createDeserializer(JsonDeserializer<Object>[] slotDeserializers, TypeDeserializer[] slotTypeDeserializers) {
+        return new Tuple4Deserializer(this, slotDeserializers, slotTypeDeserializers);
     }
 
     @Override
-    Tuple4<?, ?, ?, ?> create(List<Object> list, DeserializationContext ctxt) {
-        return Tuple.of(list.get(0), list.get(1), list.get(2), list.get(3));
+    Tuple4<?, ?, ?, ?> readElements(JsonParser p, DeserializationContext ctxt) throws IOException {
+        Object _1 = readElement(p, ctxt, 0);
+        Object _2 = readElement(p, ctxt, 1);
+        Object _3 = readElement(p, ctxt, 2);
+        Object _4 = readElement(p, ctxt, 3);
+        return Tuple.of(_1, _2, _3, _4);
     }
 }
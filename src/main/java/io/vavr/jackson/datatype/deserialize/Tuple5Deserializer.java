@@ -19,21 +19,39 @@
  */
 package io.vavr.jackson.datatype.deserialize;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
 import io.vavr.Tuple;
 import io.vavr.Tuple5;
 
-import java.util.List;
+import java.io.IOException;
 
 class Tuple5Deserializer extends TupleDeserializer<Tuple5<?, ?, ?, ?, ?>> {
 
     Tuple5Deserializer(JavaType valueType) {
-        super(valueType);
+        super(valueType, 5);
+    }
+
+    private Tuple5Deserializer(Tuple5Deserializer origin, JsonDeserializer<Object>[] slotDeserializers,
+                              TypeDeserializer[] slotTypeDeserializers) {
+        super(origin, slotDeserializers, slotTypeDeserializers);
+    }
+
+    @Override
+    Tuple5Deserializer createDeserializer(JsonDeserializer<Object>[] slotDeserializers, TypeDeserializer[] slotTypeDeserializers) {
+        return new Tuple5Deserializer(this, slotDeserializers, slotTypeDeserializers);
     }
 
     @Override
-    Tuple5<?, ?, ?, ?, ?> create(List<Object> list, DeserializationContext ctxt) {
-        return Tuple.of(list.get(0), list.get(1), list.get(2), list.get(3), list.get(4));
+    Tuple5<?, ?, ?, ?, ?> readElements(JsonParser p, DeserializationContext ctxt) throws IOException {
+        Object _1 = readElement(p, ctxt, 0);
+        Object _2 = readElement(p, ctxt, 1);
+        Object _3 = readElement(p, ctxt, 2);
+        Object _4 = readElement(p, ctxt, 3);
+        Object _5 = readElement(p, ctxt, 4);
+        return Tuple.of(_1, _2, _3, _4, _5);
     }
 }
@@ -19,21 +19,40 @@
  */
 package io.vavr.jackson.datatype.deserialize;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
 import io.vavr.Tuple;
 import io.vavr.Tuple6;
 
-import java.util.List;
+import java.io.IOException;
 
 class Tuple6Deserializer extends TupleDeserializer<Tuple6<?, ?, ?, ?, ?, ?>> {
 
     Tuple6Deserializer(JavaType valueType) {
-        super(valueType);
+        super(valueType, 6);
+    }
+
+    private Tuple6Deserializer(Tuple6Deserializer origin, JsonDeserializer<Object>[] slotDeserializers,
+                              TypeDeserializer[] slotTypeDeserializers) {
+        super(origin, slotDeserializers, slotTypeDeserializers);
+    }
+
+    @Override
+    Tuple6Deserializer createDeserializer(JsonDeserializer<Object>[] slotDeserializers, TypeDeserializer[] slotTypeDeserializers) {
+        return new Tuple6Deserializer(this, slotDeserializers, slotTypeDeserializers);
     }
 
     @Override
-    Tuple6<?, ?, ?, ?, ?, ?> create(List<Object> list, DeserializationContext ctxt) {
-        return Tuple.of(list.get(0), list.get(1), list.get(2), list.get(3), list.get(4), list.get(5));
+    Tuple6<?, ?, ?, ?, ?, ?> readElements(JsonParser p, DeserializationContext ctxt) throws IOException {
+        Object _1 = readElement(p, ctxt, 0);
+        Object _2 = readElement(p, ctxt, 1);
+        Object _3 = readElement(p, ctxt, 2);
+        Object _4 = readElement(p, ctxt, 3);
+        Object _5 = readElement(p, ctxt, 4);
+        Object _6 = readElement(p, ctxt, 5);
+        return Tuple.of(_1, _2, _3, _4, _5, _6);
     }
 }
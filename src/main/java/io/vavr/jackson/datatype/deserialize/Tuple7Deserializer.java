@@ -19,21 +19,41 @@
  */
 package io.vavr.jackson.datatype.deserialize;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
 import io.vavr.Tuple;
 import io.vavr.Tuple7;
 
-import java.util.List;
+import java.io.IOException;
 
 class Tuple7Deserializer extends TupleDeserializer<Tuple7<?, ?, ?, ?, ?, ?, ?>> {
 
     Tuple7Deserializer(JavaType valueType) {
-        super(valueType);
+        super(valueType, 7);
+    }
+
+    private Tuple7Deserializer(Tuple7Deserializer origin, JsonDeserializer<Object>[] slotDeserializers,
+                              TypeDeserializer[] slotTypeDeserializers) {
+        super(origin, slotDeserializers, slotTypeDeserializers);
+    }
+
+    @Override
+    Tuple7Deserializer createDeserializer(JsonDeserializer<Object>[] slotDeserializers, TypeDeserializer[] slotTypeDeserializers) {
+        return new Tuple7Deserializer(this, slotDeserializers, slotTypeDeserializers);
     }
 
     @Override
-    Tuple7<?, ?, ?, ?, ?, ?, ?> create(List<Object> list, DeserializationContext ctxt) {
-        return Tuple.of(list.get(0), list.get(1), list.get(2), list.get(3), list.get(4), list.get(5), list.get(6));
+    Tuple7<?, ?, ?, ?, ?, ?, ?> readElements(JsonParser p, DeserializationContext ctxt) throws IOException {
+        Object _1 = readElement(p, ctxt, 0);
+        Object _2 = readElement(p, ctxt, 1);
+        Object _3 = readElement(p, ctxt, 2);
+        Object _4 = readElement(p, ctxt, 3);
+        Object _5 = readElement(p, ctxt, 4);
+        Object _6 = readElement(p, ctxt, 5);
+        Object _7 = readElement(p, ctxt, 6);
+        return Tuple.of(_1, _2, _3, _4, _5, _6, _7);
     }
 }
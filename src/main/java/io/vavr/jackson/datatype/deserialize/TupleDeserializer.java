@@ -21,71 +21,103 @@ package io.vavr.jackson.datatype.deserialize;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
-import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.JsonDeserializer;
-import io.vavr.*;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 
 import static com.fasterxml.jackson.core.JsonToken.END_ARRAY;
 import static com.fasterxml.jackson.core.JsonToken.VALUE_NULL;
 
-abstract class TupleDeserializer<T> extends ValueDeserializer<T> {
+abstract class TupleDeserializer<T> extends ValueDeserializer<T> implements ContextualDeserializer {
 
     private static final long serialVersionUID = 1L;
 
-    private final JavaType javaType;
+    final JavaType javaType;
+    private final int arity;
+    private final JsonDeserializer<Object>[] slotDeserializers;
+    private final TypeDeserializer[] slotTypeDeserializers;
 
-    TupleDeserializer(JavaType valueType) {
-        super(valueType, arity(valueType));
+    TupleDeserializer(JavaType valueType, int arity) {
+        super(valueType);
         this.javaType = valueType;
+        this.arity = arity;
+        this.slotDeserializers = null;
+        this.slotTypeDeserializers = null;
     }
 
+    /**
+     * Creates a new deserializer from the original one.
+     *
+     * @param origin                the original deserializer
+     * @param slotDeserializers     the new deserializers for the tuple elements
+     * @param slotTypeDeserializers the new deserializers for the tuple element types
+     */
+    TupleDeserializer(TupleDeserializer<T> origin, JsonDeserializer<Object>[] slotDeserializers,
+                      TypeDeserializer[] slotTypeDeserializers) {
+        super(origin.javaType);
+        this.javaType = origin.javaType;
+        this.arity = origin.arity;
+        this.slotDeserializers = slotDeserializers;
+        this.slotTypeDeserializers = slotTypeDeserializers;
+    }
+
+    /**
+     * Creates a new deserializer from the original one (this).
+     *
+     * @param slotDeserializers     the new deserializers for the tuple elements
+     * @param slotTypeDeserializers the new deserializers for the tuple element types
+     * @return a new deserializer
+     */
+    abstract TupleDeserializer<T> createDeserializer(JsonDeserializer<Object>[] slotDeserializers,
+                                                     TypeDeserializer[] slotTypeDeserializers);
+
+    /**
+     * Reads all the tuple elements with {@link #readElement} and creates the tuple.
+     */
+    abstract T readElements(JsonParser p, DeserializationContext ctxt) throws IOException;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
-    public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        List<Object> list = new ArrayList<>();
-        int ptr = 0;
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+        JsonDeserializer<Object>[] deserializers = new JsonDeserializer[arity];
+        TypeDeserializer[] typeDeserializers = new TypeDeserializer[arity];
+        for (int i = 0; i < arity; i++) {
+            JavaType slotType = javaType.containedTypeOrUnknown(i);
+            deserializers[i] = ctxt.findContextualValueDeserializer(slotType, property);
+            TypeDeserializer typeDeser = ctxt.getFactory().findTypeDeserializer(ctxt.getConfig(), slotType);
+            typeDeserializers[i] = typeDeser == null ? null : typeDeser.forProperty(property);
+        }
+        return createDeserializer(deserializers, typeDeserializers);
+    }
 
-        for (JsonToken jsonToken = p.nextToken(); jsonToken != END_ARRAY; jsonToken = p.nextToken()) {
-            if (ptr >= deserializersCount()) {
-                throw mappingException(ctxt, javaType.getRawClass(), jsonToken);
-            }
-            JsonDeserializer<?> deserializer = deserializer(ptr++);
-            Object value = (jsonToken != VALUE_NULL) ? deserializer.deserialize(p, ctxt) : deserializer.getNullValue(ctxt);
-            list.add(value);
+    @Override
+    public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (!p.isExpectedStartArrayToken()) {
+            throw mappingException(ctxt, javaType.getRawClass(), p.getCurrentToken());
         }
-        if (list.size() == deserializersCount()) {
-            return create(list, ctxt);
-        } else {
-            throw mappingException(ctxt, javaType.getRawClass(), null);
+        T tuple = readElements(p, ctxt);
+        JsonToken jsonToken = p.nextToken();
+        if (jsonToken != END_ARRAY) {
+            throw mappingException(ctxt, javaType.getRawClass(), jsonToken);
         }
+        return tuple;
     }
 
-    abstract T create(List<Object> list, DeserializationContext ctxt);
-
-    private static int arity(JavaType valueType) {
-        Class<?> clz = valueType.getRawClass();
-        if (clz == Tuple0.class) {
-            return 0;
-        } else if (clz == Tuple1.class) {
-            return 1;
-        } else if (clz == Tuple2.class) {
-            return 2;
-        } else if (clz == Tuple3.class) {
-            return 3;
-        } else if (clz == Tuple4.class) {
-            return 4;
-        } else if (clz == Tuple5.class) {
-            return 5;
-        } else if (clz == Tuple6.class) {
-            return 6;
-        } else if (clz == Tuple7.class) {
-            return 7;
-        } else {
-            return 8;
+    Object readElement(JsonParser p, DeserializationContext ctxt, int index) throws IOException {
+        JsonToken jsonToken = p.nextToken();
+        if (jsonToken == END_ARRAY) {
+            throw mappingException(ctxt, javaType.getRawClass(), null);
+        }
+        JsonDeserializer<Object> deserializer = slotDeserializers[index];
+        if (jsonToken == VALUE_NULL) {
+            return deserializer.getNullValue(ctxt);
+        }
+        TypeDeserializer typeDeserializer = slotTypeDeserializers[index];
+        if (typeDeserializer == null) {
+            return deserializer.deserialize(p, ctxt);
         }
+        return deserializer.deserializeWithType(p, ctxt, typeDeserializer);
     }
 }
@@ -19,51 +19,22 @@
  */
 package io.vavr.jackson.datatype.deserialize;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.io.IOException;
 
-abstract class ValueDeserializer<T> extends StdDeserializer<T> implements ResolvableDeserializer {
+abstract class ValueDeserializer<T> extends StdDeserializer<T> {
 
     private static final long serialVersionUID = 1L;
 
-    private final JavaType javaType;
-    private final int typeCount;
-    private final List<JsonDeserializer<?>> deserializers;
-
-    ValueDeserializer(JavaType valueType, int typeCount) {
+    ValueDeserializer(JavaType valueType) {
         super(valueType);
-        this.javaType = valueType;
-        this.typeCount = typeCount;
-        this.deserializers = new ArrayList<>(typeCount);
-    }
-
-    int deserializersCount() {
-        return deserializers.size();
-    }
-
-    JsonDeserializer<?> deserializer(int index) {
-        return deserializers.get(index);
-    }
-
-    @Override
-    public void resolve(DeserializationContext ctxt) throws JsonMappingException {
-        // TODO rewrite this
-        if (javaType.isCollectionLikeType() || javaType.isReferenceType()) {
-            deserializers.add(ctxt.findRootValueDeserializer(javaType.getContentType()));
-            return;
-        }
-        for (int i = 0; i < typeCount; i++) {
-            JavaType containedType = javaType.containedTypeOrUnknown(i);
-            deserializers.add(ctxt.findRootValueDeserializer(containedType));
-        }
     }
 
     // DEV-NOTE: original method is deprecated since 2.8
@@ -74,6 +45,25 @@ abstract class ValueDeserializer<T> extends StdDeserializer<T> implements Resolv
                         _calcName(targetClass), tokenDesc));
     }
 
+    /**
+     * Compares the text of the current string token with the given one, without building a {@code String}.
+     */
+    static boolean matches(JsonParser p, SerializableString text) throws IOException {
+        String value = text.getValue();
+        int length = p.getTextLength();
+        if (length != value.length()) {
+            return false;
+        }
+        char[] chars = p.getTextCharacters();
+        int offset = p.getTextOffset();
+        for (int i = 0; i < length; i++) {
+            if (chars[offset + i] != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private static String _calcName(Class<?> cls) {
         if (cls.isArray()) {
             return _calcName(cls.getComponentType())+"[]";
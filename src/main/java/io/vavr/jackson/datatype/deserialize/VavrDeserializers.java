@@ -31,108 +31,130 @@ import io.vavr.control.Either;
 import io.vavr.control.Option;
 import io.vavr.jackson.datatype.VavrModule;
 
+import java.util.function.BiFunction;
+
 public class VavrDeserializers extends Deserializers.Base {
 
+    private static final BiFunction<JavaType, VavrModule.Settings, JsonDeserializer<?>> NONE = (type, settings) -> null;
+    private static final BiFunction<JavaType, VavrModule.Settings, JsonDeserializer<?>> SERIALIZABLE = SerializableDeserializer::new;
+
+    /**
+     * Deserializer factories for the vavr bean types, classified once per raw class.
+     */
+    private static final ClassValue<BiFunction<JavaType, VavrModule.Settings, JsonDeserializer<?>>> FACTORIES = new ClassValue<BiFunction<JavaType, VavrModule.Settings, JsonDeserializer<?>>>() {
+        @Override
+        protected BiFunction<JavaType, VavrModule.Settings, JsonDeserializer<?>> computeValue(Class<?> raw) {
+            return factory(raw);
+        }
+    };
+
     private final VavrModule.Settings settings;
 
     public VavrDeserializers(VavrModule.Settings settings) {
         this.settings = settings;
     }
 
-    @SuppressWarnings("deprecation")
-    @Override
-    public JsonDeserializer<?> findBeanDeserializer(JavaType type,
-                                                    DeserializationConfig config,
-                                                    BeanDescription beanDesc) throws JsonMappingException {
-        Class<?> raw = type.getRawClass();
+    private static BiFunction<JavaType, VavrModule.Settings, JsonDeserializer<?>> factory(Class<?> raw) {
         if (Either.class.isAssignableFrom(raw)) {
-            return new EitherDeserializer(type);
+            return (type, settings) -> new EitherDeserializer(type);
         }
 
         if (Tuple0.class.isAssignableFrom(raw)) {
-            return new Tuple0Deserializer(type);
+            return (type, settings) -> new Tuple0Deserializer(type);
         }
         if (Tuple1.class.isAssignableFrom(raw)) {
-            return new Tuple1Deserializer(type);
+            return (type, settings) -> new Tuple1Deserializer(type);
         }
         if (Tuple2.class.isAssignableFrom(raw)) {
-            return new Tuple2Deserializer(type);
+            return (type, settings) -> new Tuple2Deserializer(type);
         }
         if (Tuple3.class.isAssignableFrom(raw)) {
-            return new Tuple3Deserializer(type);
+            return (type, settings) -> new Tuple3Deserializer(type);
         }
         if (Tuple4.class.isAssignableFrom(raw)) {
-            return new Tuple4Deserializer(type);
+            return (type, settings) -> new Tuple4Deserializer(type);
         }
         if (Tuple5.class.isAssignableFrom(raw)) {
-            return new Tuple5Deserializer(type);
+            return (type, settings) -> new Tuple5Deserializer(type);
         }
         if (Tuple6.class.isAssignableFrom(raw)) {
-            return new Tuple6Deserializer(type);
+            return (type, settings) -> new Tuple6Deserializer(type);
         }
         if (Tuple7.class.isAssignableFrom(raw)) {
-            return new Tuple7Deserializer(type);
+            return (type, settings) -> new Tuple7Deserializer(type);
         }
         if (Tuple8.class.isAssignableFrom(raw)) {
-            return new Tuple8Deserializer(type);
+            return (type, settings) -> new Tuple8Deserializer(type);
         }
 
         if (Function0.class.isAssignableFrom(raw)) {
-            return new SerializableDeserializer<>(type);
+            return SERIALIZABLE;
         }
         if (Function1.class.isAssignableFrom(raw)) {
-            return new SerializableDeserializer<>(type);
+            return SERIALIZABLE;
         }
         if (Function2.class.isAssignableFrom(raw)) {
-            return new SerializableDeserializer<>(type);
+            return SERIALIZABLE;
         }
         if (Function3.class.isAssignableFrom(raw)) {
-            return new SerializableDeserializer<>(type);
+            return SERIALIZABLE;
         }
         if (Function4.class.isAssignableFrom(raw)) {
-            return new SerializableDeserializer<>(type);
+            return SERIALIZABLE;
         }
         if (Function5.class.isAssignableFrom(raw)) {
-            return new SerializableDeserializer<>(type);
+            return SERIALIZABLE;
         }
         if (Function6.class.isAssignableFrom(raw)) {
-            return new SerializableDeserializer<>(type);
+            return SERIALIZABLE;
         }
         if (Function7.class.isAssignableFrom(raw)) {
-            return new SerializableDeserializer<>(type);
+            return SERIALIZABLE;
         }
         if (Function8.class.isAssignableFrom(raw)) {
-            return new SerializableDeserializer<>(type);
+            return SERIALIZABLE;
         }
 
         if (CheckedFunction0.class.isAssignableFrom(raw)) {
-            return new SerializableDeserializer<>(type);
+            return SERIALIZABLE;
         }
         if (CheckedFunction1.class.isAssignableFrom(raw)) {
-            return new SerializableDeserializer<>(type);
+            return SERIALIZABLE;
         }
         if (CheckedFunction2.class.isAssignableFrom(raw)) {
-            return new SerializableDeserializer<>(type);
+            return SERIALIZABLE;
         }
         if (CheckedFunction3.class.isAssignableFrom(raw)) {
-            return new SerializableDeserializer<>(type);
+            return SERIALIZABLE;
         }
         if (CheckedFunction4.class.isAssignableFrom(raw)) {
-            return new SerializableDeserializer<>(type);
+            return SERIALIZABLE;
         }
         if (CheckedFunction5.class.isAssignableFrom(raw)) {
-            return new SerializableDeserializer<>(type);
+            return SERIALIZABLE;
         }
         if (CheckedFunction6.class.isAssignableFrom(raw)) {
-            return new SerializableDeserializer<>(type);
+            return SERIALIZABLE;
         }
         if (CheckedFunction7.class.isAssignableFrom(raw)) {
-            return new SerializableDeserializer<>(type);
+            return SERIALIZABLE;
         }
         if (CheckedFunction8.class.isAssignableFrom(raw)) {
-            return new SerializableDeserializer<>(type);
+            return SERIALIZABLE;
         }
 
+        return NONE;
+    }
+
+    @SuppressWarnings("deprecation")
+    @Override
+    public JsonDeserializer<?> findBeanDeserializer(JavaType type,
+                                                    DeserializationConfig config,
+                                                    BeanDescription beanDesc) throws JsonMappingException {
+        JsonDeserializer<?> deser = FACTORIES.get(type.getRawClass()).apply(type, settings);
+        if (deser != null) {
+            return deser;
+        }
         return super.findBeanDeserializer(type, config, beanDesc);
     }
 
@@ -143,7 +165,8 @@ public class VavrDeserializers extends Deserializers.Base {
             throws JsonMappingException {
         Class<?> raw = type.getRawClass();
         if (raw == Lazy.class) {
-            return new LazyDeserializer(type, type.getContentType(), contentTypeDeserializer, contentDeserializer);
+            return new LazyDeserializer(type, type.getContentType(), contentTypeDeserializer, contentDeserializer,
+                    settings.deferLazyDeserialization());
         }
         if (Option.class.isAssignableFrom(raw)) {
             return new OptionDeserializer(type, type.getContentType(), contentTypeDeserializer, contentDeserializer, settings.useOptionInPlainFormat());
@@ -163,7 +186,7 @@ public class VavrDeserializers extends Deserializers.Base {
         }
         if (Seq.class.isAssignableFrom(raw)) {
             return new SeqDeserializer(collectionType, collectionType.getContentType(), elementTypeDeserializer,
-                    elementDeserializer, settings.deserializeNullAsEmptyCollection());
+                    elementDeserializer, settings.deserializeNullAsEmptyCollection(), settings);
         }
         if (Set.class.isAssignableFrom(raw)) {
             return new SetDeserializer(collectionType, collectionType.getContentType(), elementTypeDeserializer,
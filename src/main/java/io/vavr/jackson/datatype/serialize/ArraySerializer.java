@@ -19,60 +19,232 @@
  */
 package io.vavr.jackson.datatype.serialize;
 
-import com.fasterxml.jackson.databind.*;
-import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContainerSerializer;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+import com.fasterxml.jackson.databind.ser.std.BooleanSerializer;
+import com.fasterxml.jackson.databind.ser.std.NumberSerializers;
+import com.fasterxml.jackson.databind.ser.std.AsArraySerializerBase;
 import com.fasterxml.jackson.databind.type.CollectionLikeType;
-import com.fasterxml.jackson.databind.type.TypeFactory;
 import io.vavr.Value;
+import io.vavr.collection.IndexedSeq;
+import io.vavr.collection.Stream;
+import io.vavr.jackson.datatype.VavrModule;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.Iterator;
 
-class ArraySerializer<T extends Value<?>> extends ValueSerializer<T> implements ContextualSerializer {
+class ArraySerializer<T extends Value<?>> extends AsArraySerializerBase<T> {
 
     private static final long serialVersionUID = 1L;
-    private final CollectionLikeType collectionType;
 
-    ArraySerializer(CollectionLikeType collectionType, BeanProperty property) {
-        super(collectionType, property);
-        this.collectionType = collectionType;
+    private final int flushEvery;
+    private final int flushAtBufferedBytes;
+    private final VavrModule.Settings settings;
+
+    ArraySerializer(CollectionLikeType collectionType, boolean staticTyping,
+                    TypeSerializer elementTypeSerializer, JsonSerializer<?> elementSerializer) {
+        this(collectionType, staticTyping, elementTypeSerializer, elementSerializer, null);
+    }
+
+    /**
+     * @param settings the flush thresholds of streams and iterators and the parallel mode of indexed seqs,
+     *                 none of them applies if {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    ArraySerializer(CollectionLikeType collectionType, boolean staticTyping,
+                    TypeSerializer elementTypeSerializer, JsonSerializer<?> elementSerializer,
+                    VavrModule.Settings settings) {
+        super(collectionType.getRawClass(), collectionType.getContentType(), staticTyping, elementTypeSerializer,
+                (JsonSerializer<Object>) elementSerializer);
+        Class<?> raw = collectionType.getRawClass();
+        boolean streamed = settings != null
+                && (Stream.class.isAssignableFrom(raw) || io.vavr.collection.Iterator.class.isAssignableFrom(raw));
+        this.flushEvery = streamed ? settings.flushStreamsEvery() : 0;
+        this.flushAtBufferedBytes = streamed ? settings.flushStreamsAtBufferedBytes() : 0;
+        // a seq property may hold an indexed seq, which is only known at runtime
+        this.settings = settings;
     }
 
     ArraySerializer(CollectionLikeType collectionType) {
-        this(collectionType, null);
+        this(collectionType, false, null, null);
     }
 
     /**
      * Creates a new serializer from the original one.
      *
-     * @param origin   the original serializer
-     * @param property the new bean property
+     * @param origin                the original serializer
+     * @param property              the new bean property
+     * @param elementTypeSerializer the new serializer for the element type
+     * @param elementSerializer     the new serializer for the element itself
+     * @param unwrapSingle          whether single-element arrays should be unwrapped
      */
-    ArraySerializer(ArraySerializer<T> origin, BeanProperty property) {
-        this(origin.collectionType, property);
+    ArraySerializer(ArraySerializer<T> origin, BeanProperty property, TypeSerializer elementTypeSerializer,
+                    JsonSerializer<?> elementSerializer, Boolean unwrapSingle) {
+        super(origin, property, elementTypeSerializer, elementSerializer, unwrapSingle);
+        this.flushEvery = origin.flushEvery;
+        this.flushAtBufferedBytes = origin.flushAtBufferedBytes;
+        this.settings = origin.settings;
     }
 
     @Override
-    Object toJavaObj(T value) throws IOException {
-        return value.toJavaList();
+    public ArraySerializer<T> withResolved(BeanProperty property, TypeSerializer elementTypeSerializer,
+                                           JsonSerializer<?> elementSerializer, Boolean unwrapSingle) {
+        return new ArraySerializer<>(this, property, elementTypeSerializer, elementSerializer, unwrapSingle);
     }
 
     @Override
-    JavaType emulatedJavaType(TypeFactory typeFactory) {
-        return typeFactory.constructCollectionType(ArrayList.class, collectionType.getContentType());
+    public ContainerSerializer<?> _withValueTypeSerializer(TypeSerializer elementTypeSerializer) {
+        return new ArraySerializer<>(this, _property, elementTypeSerializer, _elementSerializer, _unwrapSingle);
     }
 
     @Override
     public boolean isEmpty(SerializerProvider provider, T value) {
-        return value.isEmpty();
+        return value == null || value.isEmpty();
     }
 
     @Override
-    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
-            throws JsonMappingException {
-        if (property == beanProperty) {
-            return this;
+    public boolean hasSingleElement(T value) {
+        if (value instanceof io.vavr.collection.Iterator) {
+            // single-pass
+            return false;
+        }
+        Iterator<?> it = value.iterator();
+        if (it.hasNext()) {
+            it.next();
+            return !it.hasNext();
+        }
+        return false;
+    }
+
+    @Override
+    public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (unwrapSingle(provider) && hasSingleElement(value)) {
+            serializeContents(value, gen, provider);
+            return;
+        }
+        gen.writeStartArray();
+        gen.setCurrentValue(value);
+        serializeContents(value, gen, provider);
+        gen.writeEndArray();
+    }
+
+    @Override
+    protected void serializeContents(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (settings != null && value instanceof IndexedSeq && writeInParallel((IndexedSeq<?>) value, gen, provider)) {
+            return;
+        }
+        writeContents(value, value.iterator(), gen, provider);
+    }
+
+    private boolean writeInParallel(IndexedSeq<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        int size = value.size();
+        int chunkSize = ParallelChunks.chunkSize(settings, size);
+        if (chunkSize == 0 || ParallelChunks.usesObjectIds(_elementType, _elementSerializer, _property, provider)) {
+            return false;
+        }
+        io.vavr.collection.Iterator<IndexedSeq<?>> chunks = io.vavr.collection.Iterator.iterate(0, from -> from + chunkSize)
+                .takeWhile(from -> from < size)
+                .map(from -> value.subSequence(from, Math.min(size, from + chunkSize)));
+        return ParallelChunks.write(chunks, (chunk, g, p) -> writeContents(value, chunk.iterator(), g, p), settings, gen, provider);
+    }
+
+    private void writeContents(Value<?> value, Iterator<?> elements, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        final TypeSerializer typeSer = _valueTypeSerializer;
+        final JsonSerializer<Object> staticSer = _elementSerializer;
+        if (typeSer == null && staticSer != null && writePrimitives(value, elements, gen, provider)) {
+            return;
+        }
+        PropertySerializerMap serializers = _dynamicSerializers;
+        int i = 0;
+        try {
+            while (elements.hasNext()) {
+                Object elem = elements.next();
+                if (elem == null) {
+                    provider.defaultSerializeNull(gen);
+                } else {
+                    JsonSerializer<Object> ser = staticSer;
+                    if (ser == null) {
+                        Class<?> cc = elem.getClass();
+                        ser = serializers.serializerFor(cc);
+                        if (ser == null) {
+                            if (_elementType.hasGenericTypes()) {
+                                ser = _findAndAddDynamic(serializers, provider.constructSpecializedType(_elementType, cc), provider);
+                            } else {
+                                ser = _findAndAddDynamic(serializers, cc, provider);
+                            }
+                            serializers = _dynamicSerializers;
+                        }
+                    }
+                    if (typeSer == null) {
+                        ser.serialize(elem, gen, provider);
+                    } else {
+                        ser.serializeWithType(elem, gen, provider, typeSer);
+                    }
+                }
+                i++;
+                flushIfNeeded(gen, i);
+            }
+        } catch (Exception e) {
+            wrapAndThrow(provider, e, value, i);
+        }
+    }
+
+    /**
+     * Writes {@code Integer}, {@code Long}, {@code Double} and {@code Boolean} elements without the per-element
+     * serializer dispatch, as long as they go through the default serializer of their type.
+     *
+     * @return {@code false} if the elements need the generic path
+     */
+    private boolean writePrimitives(Value<?> value, Iterator<?> elements, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        Class<?> raw = _elementType.getRawClass();
+        Class<?> ser = _elementSerializer.getClass();
+        if (!(raw == Integer.class && ser == NumberSerializers.IntegerSerializer.class
+                || raw == Long.class && ser == NumberSerializers.LongSerializer.class
+                || raw == Double.class && ser == NumberSerializers.DoubleSerializer.class
+                || raw == Boolean.class && ser == BooleanSerializer.class)) {
+            return false;
+        }
+        int i = 0;
+        try {
+            while (elements.hasNext()) {
+                Object elem = elements.next();
+                if (elem == null) {
+                    provider.defaultSerializeNull(gen);
+                } else if (raw == Integer.class) {
+                    gen.writeNumber((Integer) elem);
+                } else if (raw == Long.class) {
+                    gen.writeNumber((Long) elem);
+                } else if (raw == Double.class) {
+                    gen.writeNumber((Double) elem);
+                } else {
+                    gen.writeBoolean((Boolean) elem);
+                }
+                i++;
+                flushIfNeeded(gen, i);
+            }
+        } catch (Exception e) {
+            wrapAndThrow(provider, e, value, i);
+        }
+        return true;
+    }
+
+    private void flushIfNeeded(JsonGenerator gen, int count) throws IOException {
+        if (flushEvery > 0 && count % flushEvery == 0
+                || flushAtBufferedBytes > 0 && gen.getOutputBuffered() >= flushAtBufferedBytes) {
+            gen.flush();
+        }
+    }
+
+    private boolean unwrapSingle(SerializerProvider provider) {
+        if (_unwrapSingle == null) {
+            return provider.isEnabled(SerializationFeature.WRITE_SINGLE_ELEM_ARRAYS_UNWRAPPED);
         }
-        return new ArraySerializer<>(this, property);
+        return _unwrapSingle;
     }
 }
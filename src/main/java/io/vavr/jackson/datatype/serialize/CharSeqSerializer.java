@@ -19,14 +19,16 @@
  */
 package io.vavr.jackson.datatype.serialize;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.SerializerProvider;
-import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import io.vavr.collection.CharSeq;
 
 import java.io.IOException;
 
-class CharSeqSerializer extends ValueSerializer<CharSeq> {
+class CharSeqSerializer extends StdSerializer<CharSeq> {
 
     private static final long serialVersionUID = 1L;
 
@@ -35,13 +37,17 @@ class CharSeqSerializer extends ValueSerializer<CharSeq> {
     }
 
     @Override
-    Object toJavaObj(CharSeq value) throws IOException {
-        return value.toString();
+    public void serialize(CharSeq value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        // toString() returns the backing string, no copy involved
+        gen.writeString(value.toString());
     }
 
     @Override
-    JavaType emulatedJavaType(TypeFactory typeFactory) {
-        return typeFactory.constructType(String.class);
+    public void serializeWithType(CharSeq value, JsonGenerator gen, SerializerProvider serializers,
+                                  TypeSerializer typeSer) throws IOException {
+        typeSer.writeTypePrefixForScalar(value, gen);
+        serialize(value, gen, serializers);
+        typeSer.writeTypeSuffixForScalar(value, gen);
     }
 
     @Override
@@ -20,9 +20,11 @@
 package io.vavr.jackson.datatype.serialize;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import io.vavr.control.Either;
+import io.vavr.jackson.datatype.VavrModule;
 
 import java.io.IOException;
 
@@ -30,18 +32,32 @@ class EitherSerializer extends HListSerializer<Either<?, ?>> {
 
     private static final long serialVersionUID = 1L;
 
-    EitherSerializer(JavaType type) {
-        super(type);
+    private static final SerializedString LEFT = new SerializedString("left");
+    private static final SerializedString RIGHT = new SerializedString("right");
+
+    private final boolean compactFormat;
+
+    EitherSerializer(JavaType type, VavrModule.Settings settings) {
+        super(type, 2);
+        this.compactFormat = settings.useCompactFormat();
     }
 
     @Override
     public void serialize(Either<?, ?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
         gen.writeStartArray();
         if (value.isLeft()) {
-            gen.writeString("left");
+            if (compactFormat) {
+                gen.writeBoolean(false);
+            } else {
+                gen.writeString(LEFT);
+            }
             write(value.getLeft(), 0, gen, provider);
         } else {
-            gen.writeString("right");
+            if (compactFormat) {
+                gen.writeBoolean(true);
+            } else {
+                gen.writeString(RIGHT);
+            }
             write(value.get(), 1, gen, provider);
         }
         gen.writeEndArray();
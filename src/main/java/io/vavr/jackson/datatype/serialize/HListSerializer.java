@@ -20,10 +20,11 @@
 package io.vavr.jackson.datatype.serialize;
 
 import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.JsonSerializer;
-import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.introspect.Annotated;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import java.io.IOException;
@@ -32,33 +33,78 @@ abstract class HListSerializer<T> extends StdSerializer<T> {
 
     private static final long serialVersionUID = 1L;
 
-    private final JavaType type;
+    final JavaType type;
 
-    HListSerializer(JavaType type) {
+    /**
+     * Per-slot cache of serializers looked up by the runtime class of the element. Each map is immutable
+     * and replaced on a miss, so concurrent writers at worst repeat a lookup.
+     */
+    private final PropertySerializerMap[] dynamicSerializers;
+
+    HListSerializer(JavaType type, int slots) {
         super(type);
         this.type = type;
+        this.dynamicSerializers = new PropertySerializerMap[slots];
+        for (int i = 0; i < slots; i++) {
+            dynamicSerializers[i] = PropertySerializerMap.emptyForProperties();
+        }
     }
 
     void write(Object val, int containedTypeIndex, JsonGenerator gen, SerializerProvider provider) throws IOException {
         if (val != null) {
-            if (type.containedTypeCount() > containedTypeIndex) {
-                JsonSerializer<Object> ser;
-                JavaType containedType = type.containedType(containedTypeIndex);
-                if (containedType != null && containedType.hasGenericTypes()) {
-                    JavaType st = provider.constructSpecializedType(containedType, val.getClass());
-                    ser = provider.findTypedValueSerializer(st, true, null);
-                } else {
-                    ser = provider.findTypedValueSerializer(val.getClass(), true, null);
-                }
-                ser.serialize(val, gen, provider);
-            } else {
-                gen.writeObject(val);
+            PropertySerializerMap serializers = dynamicSerializers[containedTypeIndex];
+            Class<?> cc = val.getClass();
+            JsonSerializer<Object> ser = serializers.serializerFor(cc);
+            if (ser == null) {
+                ser = findSerializer(val, containedTypeIndex, provider);
+                dynamicSerializers[containedTypeIndex] = serializers.addSerializer(cc, ser).map;
             }
+            ser.serialize(val, gen, provider);
         } else {
             gen.writeNull();
         }
     }
 
+    private JsonSerializer<Object> findSerializer(Object val, int containedTypeIndex, SerializerProvider provider) throws JsonMappingException {
+        JavaType containedType = type.containedTypeCount() > containedTypeIndex ? type.containedType(containedTypeIndex) : null;
+        if (containedType != null && containedType.hasGenericTypes()) {
+            JavaType st = provider.constructSpecializedType(containedType, val.getClass());
+            return provider.findTypedValueSerializer(st, true, null);
+        }
+        return provider.findTypedValueSerializer(val.getClass(), true, null);
+    }
+
+    boolean useStatic(SerializerProvider provider, BeanProperty property, JavaType referredType) {
+        // First: no serializer for `Object.class`, must be dynamic
+        if (referredType.isJavaLangObject()) {
+            return false;
+        }
+        // but if type is final, might as well fetch
+        if (referredType.isFinal()) { // or should we allow annotation override? (only if requested...)
+            return true;
+        }
+        // also: if indicated by typing, should be considered static
+        if (referredType.useStaticType()) {
+            return true;
+        }
+        // if neither, maybe explicit annotation?
+        AnnotationIntrospector intr = provider.getAnnotationIntrospector();
+        if ((intr != null) && (property != null)) {
+            Annotated ann = property.getMember();
+            if (ann != null) {
+                JsonSerialize.Typing t = intr.findSerializationTyping(property.getMember());
+                if (t == JsonSerialize.Typing.STATIC) {
+                    return true;
+                }
+                if (t == JsonSerialize.Typing.DYNAMIC) {
+                    return false;
+                }
+            }
+        }
+        // and finally, may be forced by global static typing (unlikely...)
+        return provider.isEnabled(MapperFeature.USE_STATIC_TYPING);
+    }
+
     @Override
     public void serializeWithType(T value, JsonGenerator gen, SerializerProvider serializers,
                                   TypeSerializer typeSer) throws IOException {
@@ -0,0 +1,257 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2017 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.jackson.datatype.serialize;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyFilter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.vavr.Lazy;
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.CharSeq;
+import io.vavr.collection.Multimap;
+import io.vavr.collection.Stream;
+import io.vavr.collection.Traversable;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.BaseStream;
+
+/**
+ * Evaluates the unevaluated {@code Lazy} values reachable from the value being written concurrently, before the
+ * write goes on. The values are walked on the writing thread without being written: bean properties are read
+ * with the active view and property filter of the write, the content of streams and iterators is never read and
+ * nothing is walked through a custom serializer. Values found in an evaluated {@code Lazy} are walked in turn.
+ */
+final class LazyPreForcer {
+
+    private final Executor executor;
+    private final SerializerProvider provider;
+    private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Deque<CompletableFuture<Object>> pending = new ArrayDeque<>();
+
+    private LazyPreForcer(Executor executor, SerializerProvider provider) {
+        this.executor = executor;
+        this.provider = provider;
+    }
+
+    /**
+     * Runs once per write, when its first unevaluated {@code Lazy} is met. The walk starts from the values of
+     * the enclosing output contexts, outermost first, and ends with {@code value}. {@code Lazy} values only met
+     * later on, e.g. in a stream, are evaluated by the write itself.
+     */
+    static void preForce(Lazy<?> value, Executor executor, JsonGenerator gen, SerializerProvider provider) {
+        if (provider.getAttribute(LazyPreForcer.class) != null) {
+            return;
+        }
+        provider.setAttribute(LazyPreForcer.class, Boolean.TRUE);
+        Deque<Object> enclosing = new ArrayDeque<>();
+        for (JsonStreamContext context = gen.getOutputContext(); context != null; context = context.getParent()) {
+            if (context.getCurrentValue() != null) {
+                enclosing.push(context.getCurrentValue());
+            }
+        }
+        LazyPreForcer forcer = new LazyPreForcer(executor, provider);
+        for (Object container : enclosing) {
+            forcer.visit(container, null);
+        }
+        forcer.visit(value, null);
+        forcer.await();
+    }
+
+    private void await() {
+        while (!pending.isEmpty()) {
+            Object result;
+            try {
+                result = pending.poll().join();
+            } catch (CompletionException e) {
+                // thrown again by the get() of the write
+                continue;
+            }
+            visit(result, null);
+        }
+    }
+
+    /**
+     * @param serializer the serializer the write will use for {@code value} if known, {@code null} otherwise
+     */
+    private void visit(Object value, JsonSerializer<?> serializer) {
+        if (value == null || isScalar(value.getClass()) || isSinglePass(value.getClass()) || !visited.add(value)) {
+            return;
+        }
+        if (value instanceof Lazy) {
+            if (serializer == null || serializer instanceof LazySerializer) {
+                Lazy<?> lazy = (Lazy<?>) value;
+                if (lazy.isEvaluated()) {
+                    visit(lazy.get(), null);
+                } else {
+                    pending.add(CompletableFuture.supplyAsync(lazy::get, executor));
+                }
+            }
+        } else if (value instanceof io.vavr.collection.Map) {
+            ((io.vavr.collection.Map<?, ?>) value).valuesIterator().forEach(this::visitElement);
+        } else if (value instanceof Multimap) {
+            ((Multimap<?, ?>) value).iterator().map(Tuple2::_2).forEach(this::visitElement);
+        } else if (value instanceof Traversable) {
+            if (!(value instanceof CharSeq)) {
+                ((Traversable<?>) value).forEach(this::visitElement);
+            }
+        } else if (value instanceof Option) {
+            ((Option<?>) value).forEach(this::visitElement);
+        } else if (value instanceof Either) {
+            Either<?, ?> either = (Either<?, ?>) value;
+            visitElement(either.isLeft() ? either.getLeft() : either.get());
+        } else if (value instanceof Tuple) {
+            ((Tuple) value).toSeq().forEach(this::visitElement);
+        } else if (value instanceof Collection) {
+            ((Collection<?>) value).forEach(this::visitElement);
+        } else if (value instanceof Map) {
+            ((Map<?, ?>) value).values().forEach(this::visitElement);
+        } else if (value instanceof Object[]) {
+            for (Object element : (Object[]) value) {
+                visitElement(element);
+            }
+        } else {
+            visitBean(value, serializer);
+        }
+    }
+
+    private void visitElement(Object element) {
+        visit(element, null);
+    }
+
+    private void visitBean(Object bean, JsonSerializer<?> serializer) {
+        try {
+            if (serializer == null) {
+                serializer = provider.findValueSerializer(bean.getClass());
+            }
+            if (!(serializer instanceof BeanSerializerBase)) {
+                return;
+            }
+            PropertyFilter filter = filter(bean);
+            Iterator<PropertyWriter> properties = serializer.properties();
+            while (properties.hasNext()) {
+                PropertyWriter property = properties.next();
+                if (property instanceof BeanPropertyWriter && isWritten((BeanPropertyWriter) property, bean, filter)) {
+                    BeanPropertyWriter writer = (BeanPropertyWriter) property;
+                    visit(writer.get(bean), writer.getSerializer());
+                }
+            }
+        } catch (Exception e) {
+            // left to the write
+        }
+    }
+
+    private PropertyFilter filter(Object bean) {
+        AnnotationIntrospector intr = provider.getAnnotationIntrospector();
+        if (intr == null) {
+            return null;
+        }
+        Object filterId = intr.findFilterId(provider.getConfig().introspectClassAnnotations(bean.getClass()).getClassInfo());
+        FilterProvider filters = provider.getFilterProvider();
+        return filterId == null || filters == null ? null : filters.findPropertyFilter(filterId, bean);
+    }
+
+    private boolean isWritten(BeanPropertyWriter writer, Object bean, PropertyFilter filter) throws Exception {
+        Class<?> type = writer.getType().getRawClass();
+        if (isScalar(type) || isSinglePass(type)) {
+            return false;
+        }
+        Class<?> activeView = provider.getActiveView();
+        if (activeView != null) {
+            Class<?>[] views = writer.getViews();
+            if (views == null) {
+                if (!provider.isEnabled(MapperFeature.DEFAULT_VIEW_INCLUSION)) {
+                    return false;
+                }
+            } else if (!inView(views, activeView)) {
+                return false;
+            }
+        }
+        if (filter == null) {
+            return true;
+        }
+        FilterProbe probe = new FilterProbe(writer);
+        filter.serializeAsField(bean, new TokenBuffer(null, false), provider, probe);
+        return probe.included;
+    }
+
+    private static boolean inView(Class<?>[] views, Class<?> activeView) {
+        for (Class<?> view : views) {
+            if (view.isAssignableFrom(activeView)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isScalar(Class<?> type) {
+        return type.isPrimitive() || type == String.class || Number.class.isAssignableFrom(type)
+                || type == Boolean.class || type == Character.class || type.isEnum();
+    }
+
+    private static boolean isSinglePass(Class<?> type) {
+        return Stream.class.isAssignableFrom(type) || Iterator.class.isAssignableFrom(type)
+                || BaseStream.class.isAssignableFrom(type);
+    }
+
+    /**
+     * Records whether a property filter lets the property through, without writing anything.
+     */
+    private static final class FilterProbe extends BeanPropertyWriter {
+
+        private static final long serialVersionUID = 1L;
+
+        boolean included;
+
+        FilterProbe(BeanPropertyWriter base) {
+            super(base);
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) {
+            included = true;
+        }
+
+        @Override
+        public void serializeAsOmittedField(Object bean, JsonGenerator gen, SerializerProvider prov) {
+        }
+    }
+}
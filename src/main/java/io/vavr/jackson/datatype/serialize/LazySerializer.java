@@ -21,11 +21,10 @@ package io.vavr.jackson.datatype.serialize;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.*;
-import com.fasterxml.jackson.databind.annotation.JsonSerialize;
-import com.fasterxml.jackson.databind.introspect.Annotated;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.fasterxml.jackson.databind.ser.ContextualSerializer;
 import io.vavr.Lazy;
+import io.vavr.jackson.datatype.VavrModule;
 
 import java.io.IOException;
 
@@ -37,18 +36,35 @@ class LazySerializer extends HListSerializer<Lazy<?>> implements ContextualSeria
     private final JavaType valueType;
     private final TypeSerializer valueTypeSerializer;
     private final JsonSerializer<Object> valueSerializer;
+    private final VavrModule.Settings settings;
 
     @SuppressWarnings("unchecked")
-    LazySerializer(JavaType fullType, JavaType valueType, TypeSerializer typeSer, JsonSerializer<?> valueSer) {
-        super(fullType);
+    LazySerializer(JavaType fullType, JavaType valueType, TypeSerializer typeSer, JsonSerializer<?> valueSer,
+                   VavrModule.Settings settings) {
+        super(fullType, 1);
         this.fullType = fullType;
         this.valueType = valueType;
         this.valueTypeSerializer = typeSer;
         this.valueSerializer = (JsonSerializer<Object>) valueSer;
+        this.settings = settings;
     }
 
     @Override
     public void serialize(Lazy<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (!value.isEvaluated()) {
+            switch (settings.lazyEvaluation()) {
+                case SKIP_UNEVALUATED:
+                    gen.writeNull();
+                    return;
+                case PRE_FORCE:
+                    if (settings.lazyExecutor() != null) {
+                        LazyPreForcer.preForce(value, settings.lazyExecutor(), gen, provider);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
         if (valueSerializer != null) {
             valueSerializer.serialize(value.get(), gen, provider);
         } else {
@@ -56,6 +72,11 @@ class LazySerializer extends HListSerializer<Lazy<?>> implements ContextualSeria
         }
     }
 
+    @Override
+    public boolean isEmpty(SerializerProvider provider, Lazy<?> value) {
+        return value == null || settings.lazyEvaluation() == VavrModule.Settings.LazyEvaluation.SKIP_UNEVALUATED && !value.isEvaluated();
+    }
+
     @Override
     public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
         TypeSerializer vts = valueTypeSerializer;
@@ -71,38 +92,7 @@ class LazySerializer extends HListSerializer<Lazy<?>> implements ContextualSeria
         } else {
             ser = provider.handlePrimaryContextualization(ser, property);
         }
-        return new LazySerializer(fullType, valueType, vts, ser);
-    }
-
-    private boolean useStatic(SerializerProvider provider, BeanProperty property, JavaType referredType) {
-        // First: no serializer for `Object.class`, must be dynamic
-        if (referredType.isJavaLangObject()) {
-            return false;
-        }
-        // but if type is final, might as well fetch
-        if (referredType.isFinal()) { // or should we allow annotation override? (only if requested...)
-            return true;
-        }
-        // also: if indicated by typing, should be considered static
-        if (referredType.useStaticType()) {
-            return true;
-        }
-        // if neither, maybe explicit annotation?
-        AnnotationIntrospector intr = provider.getAnnotationIntrospector();
-        if ((intr != null) && (property != null)) {
-            Annotated ann = property.getMember();
-            if (ann != null) {
-                JsonSerialize.Typing t = intr.findSerializationTyping(property.getMember());
-                if (t == JsonSerialize.Typing.STATIC) {
-                    return true;
-                }
-                if (t == JsonSerialize.Typing.DYNAMIC) {
-                    return false;
-                }
-            }
-        }
-        // and finally, may be forced by global static typing (unlikely...)
-        return provider.isEnabled(MapperFeature.USE_STATIC_TYPING);
+        return new LazySerializer(fullType, valueType, vts, ser, settings);
     }
 
 }
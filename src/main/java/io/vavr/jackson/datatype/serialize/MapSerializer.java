@@ -19,49 +19,145 @@
  */
 package io.vavr.jackson.datatype.serialize;
 
-import com.fasterxml.jackson.databind.*;
-import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.fasterxml.jackson.databind.type.MapLikeType;
-import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.Iterator;
 import io.vavr.collection.Map;
+import io.vavr.jackson.datatype.VavrModule;
 
 import java.io.IOException;
-import java.util.LinkedHashMap;
+import java.util.Set;
 
-class MapSerializer extends ValueSerializer<Map<?, ?>> implements ContextualSerializer {
+class MapSerializer extends MaplikeSerializer<Map<?, ?>> {
 
     private static final long serialVersionUID = 1L;
-    private final MapLikeType mapType;
 
-    MapSerializer(MapLikeType mapType, BeanProperty beanProperty) {
-        super(mapType, beanProperty);
-        this.mapType = mapType;
+    private final VavrModule.Settings settings;
+
+    /**
+     * @param settings the parallel mode, doesn't apply if {@code null}
+     */
+    MapSerializer(MapLikeType mapType, boolean staticTyping, JsonSerializer<?> keySerializer,
+                  TypeSerializer valueTypeSerializer, JsonSerializer<?> valueSerializer, VavrModule.Settings settings) {
+        super(mapType, staticTyping, keySerializer, valueTypeSerializer, valueSerializer);
+        this.settings = settings;
     }
 
     MapSerializer(MapLikeType mapType) {
-        this(mapType, null);
+        this(mapType, false, null, null, null, null);
+    }
+
+    private MapSerializer(MapSerializer origin, BeanProperty property, JsonSerializer<?> keySerializer,
+                          TypeSerializer valueTypeSerializer, JsonSerializer<?> valueSerializer,
+                          boolean sortKeys, JsonInclude.Include contentInclusion, Set<String> ignoredKeys) {
+        super(origin, property, keySerializer, valueTypeSerializer, valueSerializer, sortKeys, contentInclusion, ignoredKeys);
+        this.settings = origin.settings;
     }
 
     @Override
-    Object toJavaObj(Map<?, ?> value) throws IOException {
-        return value.toJavaMap();
+    MapSerializer withResolved(BeanProperty property, JsonSerializer<?> keySerializer,
+                               TypeSerializer valueTypeSerializer, JsonSerializer<?> valueSerializer,
+                               boolean sortKeys, JsonInclude.Include contentInclusion,
+                               Set<String> ignoredKeys) {
+        return new MapSerializer(this, property, keySerializer, valueTypeSerializer, valueSerializer, sortKeys, contentInclusion,
+                ignoredKeys);
     }
 
     @Override
-    JavaType emulatedJavaType(TypeFactory typeFactory) {
-        return typeFactory.constructMapType(LinkedHashMap.class, mapType.getKeyType(), mapType.getContentType());
+    public void serialize(Map<?, ?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        gen.setCurrentValue(value);
+        if (!value.isEmpty()) {
+            if (sortKeys || provider.isEnabled(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)) {
+                value = orderEntries(value);
+            }
+            if (settings == null || !writeInParallel(value, gen, provider)) {
+                // unlike iterator(), these don't create a Tuple2 per entry for hash-based maps
+                writeEntries(value, value.keysIterator(), value.valuesIterator(), gen, provider);
+            }
+        }
+        gen.writeEndObject();
+    }
+
+    private <K, V> boolean writeInParallel(Map<K, V> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        int chunkSize = ParallelChunks.chunkSize(settings, value.size());
+        if (chunkSize == 0 || ParallelChunks.usesObjectIds(mapType.getContentType(), valueSerializer, property, provider)) {
+            return false;
+        }
+        int size = value.size();
+        Iterator<K> keys = value.keysIterator();
+        Iterator<V> values = value.valuesIterator();
+        // the entries are cut in iteration order as the chunks are submitted
+        Iterator<Tuple2<Object[], Object[]>> chunks = Iterator.iterate(0, from -> from + chunkSize)
+                .takeWhile(from -> from < size)
+                .map(from -> slice(keys, values, Math.min(chunkSize, size - from)));
+        return ParallelChunks.write(chunks, (chunk, g, p) -> writeEntries(value,
+                Iterator.of(chunk._1), Iterator.of(chunk._2), g, p), settings, gen, provider);
+    }
+
+    private static Tuple2<Object[], Object[]> slice(Iterator<?> keys, Iterator<?> values, int length) {
+        Object[] keySlice = new Object[length];
+        Object[] valueSlice = new Object[length];
+        for (int i = 0; i < length; i++) {
+            keySlice[i] = keys.next();
+            valueSlice[i] = values.next();
+        }
+        return Tuple.of(keySlice, valueSlice);
+    }
+
+    private void writeEntries(Map<?, ?> value, Iterator<?> keys, Iterator<?> values,
+                              JsonGenerator gen, SerializerProvider provider) throws IOException {
+        JsonInclude.Include inclusion = contentInclusion;
+        if (inclusion == JsonInclude.Include.NON_ABSENT) {
+            inclusion = mapType.getContentType().isReferenceType() ? JsonInclude.Include.NON_EMPTY : JsonInclude.Include.NON_NULL;
+        }
+        final boolean suppressNulls = (inclusion == null)
+                ? !provider.isEnabled(SerializationFeature.WRITE_NULL_MAP_VALUES)
+                : inclusion != JsonInclude.Include.ALWAYS;
+        final boolean suppressEmpty = inclusion == JsonInclude.Include.NON_EMPTY;
+
+        // keys and values are walked side by side, both iterators visit the entries in the same order
+        while (keys.hasNext()) {
+            final Object key = keys.next();
+            final Object elem = values.next();
+            if (isIgnored(key)) {
+                continue;
+            }
+            if (elem == null) {
+                if (!suppressNulls) {
+                    writeKey(key, gen, provider);
+                    provider.defaultSerializeNull(gen);
+                }
+                continue;
+            }
+            JsonSerializer<Object> ser = valueSerializer(elem, provider);
+            if (suppressEmpty && ser.isEmpty(provider, elem)) {
+                continue;
+            }
+            writeKey(key, gen, provider);
+            try {
+                writeValue(elem, ser, gen, provider);
+            } catch (Exception e) {
+                wrapAndThrow(provider, e, value, String.valueOf(key));
+            }
+        }
     }
 
     @Override
     public boolean isEmpty(SerializerProvider provider, Map<?, ?> value) {
-        return value.isEmpty();
+        return value == null || value.isEmpty();
     }
 
     @Override
-    public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property) throws JsonMappingException {
-        if (property == beanProperty) {
-            return this;
-        }
-        return new MapSerializer(mapType, property);
+    public boolean hasSingleElement(Map<?, ?> value) {
+        return value.size() == 1;
     }
 }
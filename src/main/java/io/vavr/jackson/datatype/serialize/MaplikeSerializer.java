@@ -0,0 +1,265 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2017 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.jackson.datatype.serialize;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContainerSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+import com.fasterxml.jackson.databind.type.MapLikeType;
+import io.vavr.collection.Map;
+import io.vavr.collection.SortedMap;
+import io.vavr.collection.TreeMap;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+
+abstract class MaplikeSerializer<T> extends ContainerSerializer<T> implements ContextualSerializer {
+
+    private static final long serialVersionUID = 1L;
+
+    @SuppressWarnings("unchecked")
+    private static final Comparator<Object> KEY_ORDER = (Comparator<Object> & Serializable) (o1, o2) -> {
+        if (o1 == null) {
+            return (o2 == null) ? 0 : -1;
+        }
+        return (o2 == null) ? 1 : ((Comparable<Object>) o1).compareTo(o2);
+    };
+
+    final MapLikeType mapType;
+    final BeanProperty property;
+    final boolean staticTyping;
+    final JsonSerializer<Object> keySerializer;
+    final TypeSerializer valueTypeSerializer;
+    final JsonSerializer<Object> valueSerializer;
+    final boolean sortKeys;
+    final JsonInclude.Include contentInclusion;
+
+    /**
+     * Keys left out by {@code @JsonIgnoreProperties} on the property, {@code null} if none.
+     */
+    final Set<String> ignoredKeys;
+
+    /**
+     * Runtime value classes seen so far, mapped to their serializers; replaced (never mutated) when a new
+     * class is encountered, the same way Jackson's own container serializers do it.
+     */
+    PropertySerializerMap dynamicValueSerializers;
+
+    @SuppressWarnings("unchecked")
+    MaplikeSerializer(MapLikeType mapType, boolean staticTyping, JsonSerializer<?> keySerializer,
+                      TypeSerializer valueTypeSerializer, JsonSerializer<?> valueSerializer) {
+        super(mapType.getRawClass(), false);
+        JavaType valueType = mapType.getContentType();
+        this.mapType = mapType;
+        this.property = null;
+        this.staticTyping = !valueType.isJavaLangObject() && (staticTyping || valueType.isFinal());
+        this.keySerializer = (JsonSerializer<Object>) keySerializer;
+        this.valueTypeSerializer = valueTypeSerializer;
+        this.valueSerializer = (JsonSerializer<Object>) valueSerializer;
+        this.sortKeys = false;
+        this.contentInclusion = null;
+        this.ignoredKeys = null;
+        this.dynamicValueSerializers = PropertySerializerMap.emptyForProperties();
+    }
+
+    /**
+     * Creates a new serializer from the original one.
+     *
+     * @param origin              the original serializer
+     * @param property            the new bean property
+     * @param keySerializer       the new serializer for keys
+     * @param valueTypeSerializer the new serializer for the value type
+     * @param valueSerializer     the new serializer for values
+     * @param sortKeys            whether entries should be written in key order
+     * @param contentInclusion    the inclusion rule for values, or {@code null} for the default
+     * @param ignoredKeys         the keys to leave out, or {@code null} for none
+     */
+    @SuppressWarnings("unchecked")
+    MaplikeSerializer(MaplikeSerializer<?> origin, BeanProperty property, JsonSerializer<?> keySerializer,
+                      TypeSerializer valueTypeSerializer, JsonSerializer<?> valueSerializer,
+                      boolean sortKeys, JsonInclude.Include contentInclusion, Set<String> ignoredKeys) {
+        super(origin);
+        this.mapType = origin.mapType;
+        this.property = property;
+        this.staticTyping = origin.staticTyping;
+        this.keySerializer = (JsonSerializer<Object>) keySerializer;
+        this.valueTypeSerializer = valueTypeSerializer;
+        this.valueSerializer = (JsonSerializer<Object>) valueSerializer;
+        this.sortKeys = sortKeys;
+        this.contentInclusion = contentInclusion;
+        this.ignoredKeys = ignoredKeys;
+        this.dynamicValueSerializers = origin.dynamicValueSerializers;
+    }
+
+    abstract MaplikeSerializer<T> withResolved(BeanProperty property, JsonSerializer<?> keySerializer,
+                                               TypeSerializer valueTypeSerializer, JsonSerializer<?> valueSerializer,
+                                               boolean sortKeys, JsonInclude.Include contentInclusion,
+                                               Set<String> ignoredKeys);
+
+    @Override
+    protected ContainerSerializer<?> _withValueTypeSerializer(TypeSerializer vts) {
+        return withResolved(property, keySerializer, vts, valueSerializer, sortKeys, contentInclusion, ignoredKeys);
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+        final AnnotationIntrospector intr = provider.getAnnotationIntrospector();
+        final AnnotatedMember member = (property == null) ? null : property.getMember();
+        JsonSerializer<?> keySer = null;
+        JsonSerializer<?> valueSer = null;
+        boolean sort = false;
+        JsonInclude.Include inclusion = contentInclusion;
+        Set<String> ignored = ignoredKeys;
+
+        if (intr != null && member != null) {
+            Object serDef = intr.findKeySerializer(member);
+            if (serDef != null) {
+                keySer = provider.serializerInstance(member, serDef);
+            }
+            serDef = intr.findContentSerializer(member);
+            if (serDef != null) {
+                valueSer = provider.serializerInstance(member, serDef);
+            }
+            Boolean b = intr.findSerializationSortAlphabetically(member);
+            sort = (b != null) && b;
+            String[] names = intr.findPropertiesToIgnore(member, true);
+            if (names != null && names.length > 0) {
+                ignored = new HashSet<>(Arrays.asList(names));
+            }
+        }
+        if (property != null) {
+            JsonInclude.Include incl = property.findPropertyInclusion(provider.getConfig(), handledType()).getContentInclusion();
+            if (incl != null && incl != JsonInclude.Include.USE_DEFAULTS) {
+                inclusion = incl;
+            }
+        }
+
+        if (valueSer == null) {
+            valueSer = valueSerializer;
+        }
+        valueSer = findConvertingContentSerializer(provider, property, valueSer);
+        if (valueSer == null) {
+            if (staticTyping) {
+                valueSer = provider.findValueSerializer(mapType.getContentType(), property);
+            }
+        } else {
+            valueSer = provider.handleSecondaryContextualization(valueSer, property);
+        }
+
+        if (keySer == null) {
+            keySer = keySerializer;
+        }
+        if (keySer == null) {
+            keySer = provider.findKeySerializer(mapType.getKeyType(), property);
+        } else {
+            keySer = provider.handleSecondaryContextualization(keySer, property);
+        }
+
+        TypeSerializer vts = valueTypeSerializer;
+        if (vts != null) {
+            vts = vts.forProperty(property);
+        }
+        return withResolved(property, keySer, vts, valueSer, sort, inclusion, ignored);
+    }
+
+    @Override
+    public JavaType getContentType() {
+        return mapType.getContentType();
+    }
+
+    @Override
+    public JsonSerializer<?> getContentSerializer() {
+        return valueSerializer;
+    }
+
+    @Override
+    public void serializeWithType(T value, JsonGenerator gen, SerializerProvider serializers,
+                                  TypeSerializer typeSer) throws IOException {
+        typeSer.writeTypePrefixForScalar(value, gen);
+        serialize(value, gen, serializers);
+        typeSer.writeTypeSuffixForScalar(value, gen);
+    }
+
+    boolean isIgnored(Object key) {
+        return ignoredKeys != null && ignoredKeys.contains(key);
+    }
+
+    /**
+     * Returns the entries of the given map in natural key order, with a {@code null} key first.
+     */
+    static <V> Map<?, V> orderEntries(Map<?, V> value) {
+        if (value instanceof SortedMap) {
+            return value;
+        }
+        return TreeMap.ofEntries(KEY_ORDER, value);
+    }
+
+    void writeKey(Object key, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (key == null) {
+            provider.findNullKeySerializer(mapType.getKeyType(), property).serialize(null, gen, provider);
+        } else {
+            keySerializer.serialize(key, gen, provider);
+        }
+    }
+
+    /**
+     * Returns the serializer for a non-null value: the statically resolved one if present, otherwise
+     * the one cached for the value's runtime class.
+     */
+    JsonSerializer<Object> valueSerializer(Object value, SerializerProvider provider) throws JsonMappingException {
+        if (valueSerializer != null) {
+            return valueSerializer;
+        }
+        PropertySerializerMap serializers = dynamicValueSerializers;
+        Class<?> cc = value.getClass();
+        JsonSerializer<Object> ser = serializers.serializerFor(cc);
+        if (ser == null) {
+            JavaType valueType = mapType.getContentType();
+            PropertySerializerMap.SerializerAndMapResult result;
+            if (valueType.hasGenericTypes()) {
+                result = serializers.findAndAddSecondarySerializer(provider.constructSpecializedType(valueType, cc), provider, property);
+            } else {
+                result = serializers.findAndAddSecondarySerializer(cc, provider, property);
+            }
+            if (serializers != result.map) {
+                dynamicValueSerializers = result.map;
+            }
+            ser = result.serializer;
+        }
+        return ser;
+    }
+
+    void writeValue(Object value, JsonSerializer<Object> ser, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (valueTypeSerializer == null) {
+            ser.serialize(value, gen, provider);
+        } else {
+            ser.serializeWithType(value, gen, provider, valueTypeSerializer);
+        }
+    }
+}
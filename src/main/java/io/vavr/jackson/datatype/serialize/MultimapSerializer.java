@@ -19,61 +19,98 @@
  */
 package io.vavr.jackson.datatype.serialize;
 
-import com.fasterxml.jackson.databind.*;
-import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.fasterxml.jackson.databind.type.MapLikeType;
-import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Map;
 import io.vavr.collection.Multimap;
+import io.vavr.collection.Traversable;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
+import java.util.Set;
 
-class MultimapSerializer extends ValueSerializer<Multimap<?, ?>> implements ContextualSerializer {
+class MultimapSerializer extends MaplikeSerializer<Multimap<?, ?>> {
 
     private static final long serialVersionUID = 1L;
-    private final MapLikeType mapType;
+
+    MultimapSerializer(MapLikeType mapType, boolean staticTyping, JsonSerializer<?> keySerializer,
+                       TypeSerializer valueTypeSerializer, JsonSerializer<?> valueSerializer) {
+        super(mapType, staticTyping, keySerializer, valueTypeSerializer, valueSerializer);
+    }
 
     MultimapSerializer(MapLikeType mapType) {
-        this(mapType, null);
+        this(mapType, false, null, null, null);
     }
 
-    MultimapSerializer(MapLikeType mapType, BeanProperty beanProperty) {
-        super(mapType, beanProperty);
-        this.mapType = mapType;
+    private MultimapSerializer(MultimapSerializer origin, BeanProperty property, JsonSerializer<?> keySerializer,
+                               TypeSerializer valueTypeSerializer, JsonSerializer<?> valueSerializer,
+                               boolean sortKeys, JsonInclude.Include contentInclusion, Set<String> ignoredKeys) {
+        super(origin, property, keySerializer, valueTypeSerializer, valueSerializer, sortKeys, contentInclusion, ignoredKeys);
     }
 
     @Override
-    Object toJavaObj(Multimap<?, ?> value) throws IOException {
-        final LinkedHashMap<Object, List<Object>> result = new LinkedHashMap<>();
-        value.forEach(e -> {
-            List<Object> list = result.get(e._1);
-            if (list == null) {
-                list = new ArrayList<>();
-                result.put(e._1, list);
-            }
-            list.add(e._2);
-        });
-        return result;
+    MultimapSerializer withResolved(BeanProperty property, JsonSerializer<?> keySerializer,
+                                    TypeSerializer valueTypeSerializer, JsonSerializer<?> valueSerializer,
+                                    boolean sortKeys, JsonInclude.Include contentInclusion,
+                                    Set<String> ignoredKeys) {
+        return new MultimapSerializer(this, property, keySerializer, valueTypeSerializer, valueSerializer, sortKeys, contentInclusion,
+                ignoredKeys);
     }
 
     @Override
-    JavaType emulatedJavaType(TypeFactory typeFactory) {
-        JavaType containerType = typeFactory.constructCollectionType(ArrayList.class, mapType.getContentType());
-        return typeFactory.constructMapType(LinkedHashMap.class, mapType.getKeyType(), containerType);
+    public void serialize(Multimap<?, ?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        gen.setCurrentValue(value);
+        if (!value.isEmpty()) {
+            // the multimap is backed by a map of per-key containers, which is written as is
+            Map<?, ? extends Traversable<?>> groups = value.asMap();
+            if (sortKeys || provider.isEnabled(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)) {
+                groups = orderEntries(groups);
+            }
+            final Iterator<?> keys = groups.keysIterator();
+            final Iterator<? extends Traversable<?>> containers = groups.valuesIterator();
+            while (keys.hasNext()) {
+                final Object key = keys.next();
+                final Traversable<?> container = containers.next();
+                if (isIgnored(key)) {
+                    continue;
+                }
+                writeKey(key, gen, provider);
+                try {
+                    writeContainer(container, gen, provider);
+                } catch (Exception e) {
+                    wrapAndThrow(provider, e, value, String.valueOf(key));
+                }
+            }
+        }
+        gen.writeEndObject();
+    }
+
+    private void writeContainer(Traversable<?> container, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartArray();
+        for (Object elem : container) {
+            if (elem == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                writeValue(elem, valueSerializer(elem, provider), gen, provider);
+            }
+        }
+        gen.writeEndArray();
     }
 
     @Override
     public boolean isEmpty(SerializerProvider provider, Multimap<?, ?> value) {
-        return value.isEmpty();
+        return value == null || value.isEmpty();
     }
 
     @Override
-    public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property) throws JsonMappingException {
-        if (property == beanProperty) {
-            return this;
-        }
-        return new MultimapSerializer(mapType, property);
+    public boolean hasSingleElement(Multimap<?, ?> value) {
+        return value.size() == 1;
     }
 }
@@ -20,9 +20,8 @@
 package io.vavr.jackson.datatype.serialize;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.*;
-import com.fasterxml.jackson.databind.annotation.JsonSerialize;
-import com.fasterxml.jackson.databind.introspect.Annotated;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.fasterxml.jackson.databind.ser.ContextualSerializer;
 import io.vavr.control.Option;
@@ -33,8 +32,13 @@ class OptionSerializer extends HListSerializer<Option<?>> implements ContextualS
 
     private static final long serialVersionUID = 1L;
 
+    private static final SerializedString DEFINED = new SerializedString("defined");
+    private static final SerializedString UNDEFINED = new SerializedString("undefined");
+
     private final boolean plainMode;
 
+    private final boolean compactFormat;
+
     private final TypeSerializer valueTypeSerializer;
 
     private final JsonSerializer<Object> valueSerializer;
@@ -44,11 +48,13 @@ class OptionSerializer extends HListSerializer<Option<?>> implements ContextualS
     private final JavaType valueType;
 
     @SuppressWarnings("unchecked")
-    OptionSerializer(JavaType fullType, JavaType valueType, TypeSerializer valueTypeSerializer, JsonSerializer<?> valueSerializer, boolean plainMode) {
-        super(fullType);
+    OptionSerializer(JavaType fullType, JavaType valueType, TypeSerializer valueTypeSerializer, JsonSerializer<?> valueSerializer, boolean plainMode,
+                     boolean compactFormat) {
+        super(fullType, 1);
         this.fullType = fullType;
         this.valueType = valueType;
         this.plainMode = plainMode;
+        this.compactFormat = compactFormat;
         this.valueTypeSerializer = valueTypeSerializer;
         this.valueSerializer = (JsonSerializer<Object>)  valueSerializer;
     }
@@ -68,10 +74,18 @@ class OptionSerializer extends HListSerializer<Option<?>> implements ContextualS
         } else {
             gen.writeStartArray();
             if (value.isDefined()) {
-                gen.writeString("defined");
+                if (compactFormat) {
+                    gen.writeBoolean(true);
+                } else {
+                    gen.writeString(DEFINED);
+                }
                 write(value.get(), 0, gen, provider);
             } else {
-                gen.writeString("undefined");
+                if (compactFormat) {
+                    gen.writeBoolean(false);
+                } else {
+                    gen.writeString(UNDEFINED);
+                }
             }
             gen.writeEndArray();
         }
@@ -100,42 +114,11 @@ class OptionSerializer extends HListSerializer<Option<?>> implements ContextualS
         return withResolved(fullType, vts, ser);
     }
 
-    private boolean useStatic(SerializerProvider provider, BeanProperty property, JavaType referredType) {
-        // First: no serializer for `Object.class`, must be dynamic
-        if (referredType.isJavaLangObject()) {
-            return false;
-        }
-        // but if type is final, might as well fetch
-        if (referredType.isFinal()) { // or should we allow annotation override? (only if requested...)
-            return true;
-        }
-        // also: if indicated by typing, should be considered static
-        if (referredType.useStaticType()) {
-            return true;
-        }
-        // if neither, maybe explicit annotation?
-        AnnotationIntrospector intr = provider.getAnnotationIntrospector();
-        if ((intr != null) && (property != null)) {
-            Annotated ann = property.getMember();
-            if (ann != null) {
-                JsonSerialize.Typing t = intr.findSerializationTyping(property.getMember());
-                if (t == JsonSerialize.Typing.STATIC) {
-                    return true;
-                }
-                if (t == JsonSerialize.Typing.DYNAMIC) {
-                    return false;
-                }
-            }
-        }
-        // and finally, may be forced by global static typing (unlikely...)
-        return provider.isEnabled(MapperFeature.USE_STATIC_TYPING);
-    }
-
     private OptionSerializer withResolved(JavaType refType, TypeSerializer typeSer, JsonSerializer<?> valueSer) {
         if (refType == valueType && typeSer == valueTypeSerializer && valueSer == valueSerializer) {
             return this;
         }
-        return new OptionSerializer(refType, valueType, typeSer, valueSer, plainMode);
+        return new OptionSerializer(refType, valueType, typeSer, valueSer, plainMode, compactFormat);
     }
 
 }
@@ -0,0 +1,141 @@
+/*  __    __  __  __    __  ___
+ * \  \  /  /    \  \  /  /  __/
+ *  \  \/  /  /\  \  \/  /  /
+ *   \____/__/  \__\____/__/
+ *
+ * Copyright 2014-2017 Vavr, http://vavr.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vavr.jackson.datatype.serialize;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.fasterxml.jackson.databind.ser.SerializerFactory;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.vavr.jackson.datatype.ParallelTasks;
+import io.vavr.jackson.datatype.VavrModule;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Serializes the chunks of a large collection concurrently, each one into its own {@link TokenBuffer} with its own
+ * {@link SerializerProvider}, and replays the buffers into the actual generator in order.
+ * Per-call state is therefore not shared between chunks, which is why elements with object ids are written
+ * sequentially.
+ */
+final class ParallelChunks {
+
+    /**
+     * Chunks handed to every thread of the pool, so that uneven chunks even out.
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /**
+     * Chunks submitted ahead of the one being replayed, per thread of the pool, which bounds the buffers held.
+     */
+    private static final int IN_FLIGHT_CHUNKS_PER_THREAD = 2;
+
+    @FunctionalInterface
+    interface ChunkWriter<C> {
+        void write(C chunk, JsonGenerator gen, SerializerProvider provider) throws IOException;
+    }
+
+    private ParallelChunks() {
+    }
+
+    /**
+     * @return the number of elements per chunk or {@code 0} if {@code size} elements are written sequentially
+     */
+    static int chunkSize(VavrModule.Settings settings, int size) {
+        ForkJoinPool pool = settings.parallelSerializationPool();
+        int threshold = settings.parallelSerializationThreshold();
+        if (pool == null || threshold <= 0 || size < threshold) {
+            return 0;
+        }
+        int chunks = pool.getParallelism() * CHUNKS_PER_THREAD;
+        return Math.max(1, (size + chunks - 1) / chunks);
+    }
+
+    /**
+     * @return {@code true} if the elements are written with object ids, which only a single provider can track
+     */
+    static boolean usesObjectIds(JavaType elementType, JsonSerializer<?> elementSerializer, BeanProperty property,
+                                 SerializerProvider provider) {
+        if (elementSerializer != null && elementSerializer.usesObjectId()) {
+            return true;
+        }
+        AnnotationIntrospector intr = provider.getAnnotationIntrospector();
+        if (intr == null) {
+            return false;
+        }
+        if (property != null && property.getMember() != null && intr.findObjectIdInfo(property.getMember()) != null) {
+            return true;
+        }
+        return intr.findObjectIdInfo(provider.getConfig().introspectClassAnnotations(elementType).getClassInfo()) != null;
+    }
+
+    /**
+     * Submits the chunks as they are pulled from {@code chunks}, {@link #IN_FLIGHT_CHUNKS_PER_THREAD} per thread
+     * of the pool at most, and replays each buffer as soon as it is its turn, after which it is dropped.
+     *
+     * @return {@code false} if nothing was written, as the generator or the provider don't support a parallel write
+     */
+    static <C> boolean write(Iterator<C> chunks, ChunkWriter<C> writer, VavrModule.Settings settings,
+                             JsonGenerator gen, SerializerProvider provider) throws IOException {
+        ObjectCodec codec = gen.getCodec();
+        if (!(codec instanceof ObjectMapper) || !(provider instanceof DefaultSerializerProvider)) {
+            return false;
+        }
+        DefaultSerializerProvider blueprint = (DefaultSerializerProvider) provider;
+        SerializationConfig config = provider.getConfig();
+        SerializerFactory factory = ((ObjectMapper) codec).getSerializerFactory();
+        ForkJoinPool pool = settings.parallelSerializationPool();
+        int maxInFlight = pool.getParallelism() * IN_FLIGHT_CHUNKS_PER_THREAD;
+        Deque<ForkJoinTask<TokenBuffer>> inFlight = new ArrayDeque<>();
+        try {
+            while (chunks.hasNext()) {
+                if (inFlight.size() >= maxInFlight) {
+                    ParallelTasks.join(inFlight.pollFirst()).serialize(gen);
+                }
+                C chunk = chunks.next();
+                inFlight.add(pool.submit(() -> {
+                    TokenBuffer buffer = new TokenBuffer(codec, false);
+                    writer.write(chunk, buffer, blueprint.createInstance(config, factory));
+                    return buffer;
+                }));
+            }
+            while (!inFlight.isEmpty()) {
+                ParallelTasks.join(inFlight.pollFirst()).serialize(gen);
+            }
+        } finally {
+            for (ForkJoinTask<TokenBuffer> task : inFlight) {
+                task.cancel(false);
+            }
+        }
+        return true;
+    }
+}
@@ -19,32 +19,58 @@
  */
 package io.vavr.jackson.datatype.serialize;
 
+import com.fasterxml.jackson.core.Base64Variant;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.vavr.jackson.datatype.VavrModule;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
 
-class SerializableSerializer<T> extends ValueSerializer<T> {
+class SerializableSerializer<T> extends StdSerializer<T> {
 
     private static final long serialVersionUID = 1L;
 
-    SerializableSerializer(JavaType type) {
+    private final VavrModule.Settings settings;
+
+    SerializableSerializer(JavaType type, VavrModule.Settings settings) {
         super(type);
+        this.settings = settings;
     }
 
     @Override
-    Object toJavaObj(T value) throws IOException {
-        ByteArrayOutputStream buf = new ByteArrayOutputStream();
-        ObjectOutputStream stream = new ObjectOutputStream(buf);
-        stream.writeObject(value);
-        return buf.toByteArray();
+    public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        String name = settings.functionName(value);
+        if (name != null) {
+            gen.writeString(name);
+            return;
+        }
+        Buffer buf = new Buffer();
+        try (ObjectOutputStream stream = new ObjectOutputStream(buf)) {
+            stream.writeObject(value);
+        }
+        buf.writeBinary(gen, provider.getConfig().getBase64Variant());
     }
 
     @Override
-    JavaType emulatedJavaType(TypeFactory typeFactory) {
-        return typeFactory.constructArrayType(byte.class);
+    public void serializeWithType(T value, JsonGenerator gen, SerializerProvider serializers,
+                                  TypeSerializer typeSer) throws IOException {
+        typeSer.writeTypePrefixForScalar(value, gen);
+        serialize(value, gen, serializers);
+        typeSer.writeTypeSuffixForScalar(value, gen);
     }
 
+    /**
+     * Hands its internal buffer to the generator instead of copying it with {@code toByteArray()}.
+     */
+    private static final class Buffer extends ByteArrayOutputStream {
+
+        void writeBinary(JsonGenerator gen, Base64Variant variant) throws IOException {
+            gen.writeBinary(variant, buf, 0, count);
+        }
+    }
 }
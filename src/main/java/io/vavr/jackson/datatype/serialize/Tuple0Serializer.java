@@ -19,20 +19,32 @@
  */
 package io.vavr.jackson.datatype.serialize;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 import io.vavr.Tuple0;
 
-import java.util.Collections;
-import java.util.List;
+import java.io.IOException;
 
 class Tuple0Serializer extends TupleSerializer<Tuple0> {
 
+    private static final long serialVersionUID = 1L;
+
     Tuple0Serializer(JavaType type) {
-        super(type);
+        super(type, 0);
+    }
+
+    private Tuple0Serializer(JavaType type, JsonSerializer<Object>[] slotSerializers) {
+        super(type, slotSerializers);
+    }
+
+    @Override
+    Tuple0Serializer createSerializer(JsonSerializer<Object>[] slotSerializers) {
+        return new Tuple0Serializer(type, slotSerializers);
     }
 
     @Override
-    List<?> toList(Tuple0 value) {
-        return Collections.emptyList();
+    void writeElements(Tuple0 value, JsonGenerator gen, SerializerProvider provider) throws IOException {
     }
 }
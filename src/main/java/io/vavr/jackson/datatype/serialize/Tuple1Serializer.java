@@ -19,20 +19,33 @@
  */
 package io.vavr.jackson.datatype.serialize;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 import io.vavr.Tuple1;
 
-import java.util.Collections;
-import java.util.List;
+import java.io.IOException;
 
 class Tuple1Serializer extends TupleSerializer<Tuple1<?>> {
 
+    private static final long serialVersionUID = 1L;
+
     Tuple1Serializer(JavaType type) {
-        super(type);
+        super(type, 1);
+    }
+
+    private Tuple1Serializer(JavaType type, JsonSerializer<Object>[] slotSerializers) {
+        super(type, slotSerializers);
+    }
+
+    @Override
+    Tuple1Serializer createSerializer(JsonSerializer<Object>[] slotSerializers) {
+        return new Tuple1Serializer(type, slotSerializers);
     }
 
     @Override
-    List<?> toList(Tuple1<?> value) {
-        return Collections.singletonList(value._1);
+    void writeElements(Tuple1<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        writeElement(value._1, 0, gen, provider);
     }
 }
@@ -19,20 +19,34 @@
  */
 package io.vavr.jackson.datatype.serialize;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 import io.vavr.Tuple2;
 
-import java.util.Arrays;
-import java.util.List;
+import java.io.IOException;
 
 class Tuple2Serializer extends TupleSerializer<Tuple2<?, ?>> {
 
+    private static final long serialVersionUID = 1L;
+
     Tuple2Serializer(JavaType type) {
-        super(type);
+        super(type, 2);
+    }
+
+    private Tuple2Serializer(JavaType type, JsonSerializer<Object>[] slotSerializers) {
+        super(type, slotSerializers);
+    }
+
+    @Override
+    Tuple2Serializer createSerializer(JsonSerializer<Object>[] slotSerializers) {
+        return new Tuple2Serializer(type, slotSerializers);
     }
 
     @Override
-    List<?> toList(Tuple2<?, ?> value) {
-        return Arrays.asList(value._1, value._2);
+    void writeElements(Tuple2<?, ?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        writeElement(value._1, 0, gen, provider);
+        writeElement(value._2, 1, gen, provider);
     }
 }
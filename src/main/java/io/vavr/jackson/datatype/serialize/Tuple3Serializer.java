@@ -19,20 +19,35 @@
  */
 package io.vavr.jackson.datatype.serialize;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 import io.vavr.Tuple3;
 
-import java.util.Arrays;
-import java.util.List;
+import java.io.IOException;
 
 class Tuple3Serializer extends TupleSerializer<Tuple3<?, ?, ?>> {
 
+    private static final long serialVersionUID = 1L;
+
     Tuple3Serializer(JavaType type) {
-        super(type);
+        super(type, 3);
+    }
+
+    private Tuple3Serializer(JavaType type, JsonSerializer<Object>[] slotSerializers) {
+        super(type, slotSerializers);
+    }
+
+    @Override
+    Tuple3Serializer createSerializer(JsonSerializer<Object>[] slotSerializers) {
+        return new Tuple3Serializer(type, slotSerializers);
     }
 
     @Override
-    List<?> toList(Tuple3<?, ?, ?> value) {
-        return Arrays.asList(value._1, value._2, value._3);
+    void writeElements(Tuple3<?, ?, ?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        writeElement(value._1, 0, gen, provider);
+        writeElement(value._2, 1, gen, provider);
+        writeElement(value._3, 2, gen, provider);
     }
 }
@@ -19,20 +19,36 @@
  */
 package io.vavr.jackson.datatype.serialize;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 import io.vavr.Tuple4;
 
-import java.util.Arrays;
-import java.util.List;
+import java.io.IOException;
 
 class Tuple4Serializer extends TupleSerializer<Tuple4<?, ?, ?, ?>> {
 
+    private static final long serialVersionUID = 1L;
+
     Tuple4Serializer(JavaType type) {
-        super(type);
+        super(type, 4);
+    }
+
+    private Tuple4Serializer(JavaType type, JsonSerializer<Object>[] slotSerializers) {
+        super(type, slotSerializers);
+    }
+
+    @Override
+    Tuple4Serializer createSerializer(JsonSerializer<Object>[] slotSerializers) {
+        return new Tuple4Serializer(type, slotSerializers);
     }
 
     @Override
-    List<?> toList(Tuple4<?, ?, ?, ?> value) {
-        return Arrays.asList(value._1, value._2, value._3, value._4);
+    void writeElements(Tuple4<?, ?, ?, ?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        writeElement(value._1, 0, gen, provider);
+        writeElement(value._2, 1, gen, provider);
+        writeElement(value._3, 2, gen, provider);
+        writeElement(value._4, 3, gen, provider);
     }
 }
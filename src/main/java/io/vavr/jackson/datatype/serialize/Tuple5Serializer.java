@@ -19,20 +19,37 @@
  */
 package io.vavr.jackson.datatype.serialize;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 import io.vavr.Tuple5;
 
-import java.util.Arrays;
-import java.util.List;
+import java.io.IOException;
 
 class Tuple5Serializer extends TupleSerializer<Tuple5<?, ?, ?, ?, ?>> {
 
+    private static final long serialVersionUID = 1L;
+
     Tuple5Serializer(JavaType type) {
-        super(type);
+        super(type, 5);
+    }
+
+    private Tuple5Serializer(JavaType type, JsonSerializer<Object>[] slotSerializers) {
+        super(type, slotSerializers);
+    }
+
+    @Override
+    Tuple5Serializer createSerializer(JsonSerializer<Object>[] slotSerializers) {
+        return new Tuple5Serializer(type, slotSerializers);
     }
 
     @Override
-    List<?> toList(Tuple5<?, ?, ?, ?, ?> value) {
-        return Arrays.asList(value._1, value._2, value._3, value._4, value._5);
+    void writeElements(Tuple5<?, ?, ?, ?, ?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        writeElement(value._1, 0, gen, provider);
+        writeElement(value._2, 1, gen, provider);
+        writeElement(value._3, 2, gen, provider);
+        writeElement(value._4, 3, gen, provider);
+        writeElement(value._5, 4, gen, provider);
     }
 }
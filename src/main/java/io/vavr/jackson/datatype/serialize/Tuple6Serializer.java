@@ -19,20 +19,38 @@
  */
 package io.vavr.jackson.datatype.serialize;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 import io.vavr.Tuple6;
 
-import java.util.Arrays;
-import java.util.List;
+import java.io.IOException;
 
 class Tuple6Serializer extends TupleSerializer<Tuple6<?, ?, ?, ?, ?, ?>> {
 
+    private static final long serialVersionUID = 1L;
+
     Tuple6Serializer(JavaType type) {
-        super(type);
+        super(type, 6);
+    }
+
+    private Tuple6Serializer(JavaType type, JsonSerializer<Object>[] slotSerializers) {
+        super(type, slotSerializers);
+    }
+
+    @Override
+    Tuple6Serializer createSerializer(JsonSerializer<Object>[] slotSerializers) {
+        return new Tuple6Serializer(type, slotSerializers);
     }
 
     @Override
-    List<?> toList(Tuple6<?, ?, ?, ?, ?, ?> value) {
-        return Arrays.asList(value._1, value._2, value._3, value._4, value._5, value._6);
+    void writeElements(Tuple6<?, ?, ?, ?, ?, ?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        writeElement(value._1, 0, gen, provider);
+        writeElement(value._2, 1, gen, provider);
+        writeElement(value._3, 2, gen, provider);
+        writeElement(value._4, 3, gen, provider);
+        writeElement(value._5, 4, gen, provider);
+        writeElement(value._6, 5, gen, provider);
     }
 }
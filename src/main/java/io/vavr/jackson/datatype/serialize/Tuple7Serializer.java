@@ -19,20 +19,39 @@
  */
 package io.vavr.jackson.datatype.serialize;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 import io.vavr.Tuple7;
 
-import java.util.Arrays;
-import java.util.List;
+import java.io.IOException;
 
 class Tuple7Serializer extends TupleSerializer<Tuple7<?, ?, ?, ?, ?, ?, ?>> {
 
+    private static final long serialVersionUID = 1L;
+
     Tuple7Serializer(JavaType type) {
-        super(type);
+        super(type, 7);
+    }
+
+    private Tuple7Serializer(JavaType type, JsonSerializer<Object>[] slotSerializers) {
+        super(type, slotSerializers);
+    }
+
+    @Override
+    Tuple7Serializer createSerializer(JsonSerializer<Object>[] slotSerializers) {
+        return new Tuple7Serializer(type, slotSerializers);
     }
 
     @Override
-    List<?> toList(Tuple7<?, ?, ?, ?, ?, ?, ?> value) {
-        return Arrays.asList(value._1, value._2, value._3, value._4, value._5, value._6, value._7);
+    void writeElements(Tuple7<?, ?, ?, ?, ?, ?, ?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        writeElement(value._1, 0, gen, provider);
+        writeElement(value._2, 1, gen, provider);
+        writeElement(value._3, 2, gen, provider);
+        writeElement(value._4, 3, gen, provider);
+        writeElement(value._5, 4, gen, provider);
+        writeElement(value._6, 5, gen, provider);
+        writeElement(value._7, 6, gen, provider);
     }
 }
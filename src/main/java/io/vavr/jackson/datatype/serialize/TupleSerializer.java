@@ -20,29 +20,76 @@
 package io.vavr.jackson.datatype.serialize;
 
 import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
 
 import java.io.IOException;
-import java.util.List;
 
-abstract class TupleSerializer<T> extends HListSerializer<T> {
+abstract class TupleSerializer<T> extends HListSerializer<T> implements ContextualSerializer {
 
     private static final long serialVersionUID = 1L;
 
-    TupleSerializer(JavaType type) {
-        super(type);
+    /**
+     * Serializers resolved once per slot in {@link #createContextual}; a {@code null} entry means the
+     * slot type is not static and {@link #write} picks the serializer by the runtime class of the element.
+     */
+    private final JsonSerializer<Object>[] slotSerializers;
+
+    TupleSerializer(JavaType type, int arity) {
+        this(type, newSlotSerializers(arity));
+    }
+
+    TupleSerializer(JavaType type, JsonSerializer<Object>[] slotSerializers) {
+        super(type, slotSerializers.length);
+        this.slotSerializers = slotSerializers;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static JsonSerializer<Object>[] newSlotSerializers(int arity) {
+        return new JsonSerializer[arity];
     }
 
+    /**
+     * Creates a new serializer of the same arity from this one.
+     *
+     * @param slotSerializers the serializers resolved for each slot
+     * @return a new serializer
+     */
+    abstract TupleSerializer<T> createSerializer(JsonSerializer<Object>[] slotSerializers);
+
+    /**
+     * Writes the {@code _1.._N} elements of the tuple, using {@link #writeElement} for each of them.
+     */
+    abstract void writeElements(T value, JsonGenerator gen, SerializerProvider provider) throws IOException;
+
     @Override
     public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
         gen.writeStartArray();
-        List<?> list = toList(value);
-        for (int i = 0; i < list.size(); i++) {
-            write(list.get(i), i, gen, provider);
-        }
+        writeElements(value, gen, provider);
         gen.writeEndArray();
     }
 
-    abstract List<?> toList(T value);
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+        if (slotSerializers.length == 0) {
+            return this;
+        }
+        JsonSerializer<Object>[] resolved = newSlotSerializers(slotSerializers.length);
+        for (int i = 0; i < resolved.length; i++) {
+            JavaType slotType = type.containedTypeCount() > i ? type.containedType(i) : null;
+            if (slotType != null && useStatic(provider, property, slotType)) {
+                resolved[i] = provider.findTypedValueSerializer(slotType, true, property);
+            }
+        }
+        return createSerializer(resolved);
+    }
+
+    void writeElement(Object val, int index, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        JsonSerializer<Object> ser = slotSerializers[index];
+        if (ser != null && val != null) {
+            ser.serialize(val, gen, provider);
+        } else {
+            write(val, index, gen, provider);
+        }
+    }
 }
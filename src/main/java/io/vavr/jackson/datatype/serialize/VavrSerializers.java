@@ -22,6 +22,7 @@ package io.vavr.jackson.datatype.serialize;
 import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.fasterxml.jackson.databind.ser.Serializers;
@@ -34,108 +35,130 @@ import io.vavr.control.Either;
 import io.vavr.control.Option;
 import io.vavr.jackson.datatype.VavrModule;
 
+import java.util.function.BiFunction;
+
 public class VavrSerializers extends Serializers.Base {
 
+    private static final BiFunction<JavaType, VavrModule.Settings, JsonSerializer<?>> NONE = (type, settings) -> null;
+    private static final BiFunction<JavaType, VavrModule.Settings, JsonSerializer<?>> SERIALIZABLE = SerializableSerializer::new;
+
+    /**
+     * Serializer factories for the vavr bean types, classified once per raw class.
+     */
+    private static final ClassValue<BiFunction<JavaType, VavrModule.Settings, JsonSerializer<?>>> FACTORIES = new ClassValue<BiFunction<JavaType, VavrModule.Settings, JsonSerializer<?>>>() {
+        @Override
+        protected BiFunction<JavaType, VavrModule.Settings, JsonSerializer<?>> computeValue(Class<?> raw) {
+            return factory(raw);
+        }
+    };
+
     private final VavrModule.Settings settings;
 
     public VavrSerializers(VavrModule.Settings settings) {
         this.settings = settings;
     }
 
-    @SuppressWarnings("deprecation")
-    @Override
-    public JsonSerializer<?> findSerializer(SerializationConfig config,
-                                            JavaType type, BeanDescription beanDesc) {
-
-        Class<?> raw = type.getRawClass();
+    private static BiFunction<JavaType, VavrModule.Settings, JsonSerializer<?>> factory(Class<?> raw) {
         if (Either.class.isAssignableFrom(raw)) {
-            return new EitherSerializer(type);
+            return EitherSerializer::new;
         }
 
         if (Tuple0.class.isAssignableFrom(raw)) {
-            return new Tuple0Serializer(type);
+            return (type, settings) -> new Tuple0Serializer(type);
         }
         if (Tuple1.class.isAssignableFrom(raw)) {
-            return new Tuple1Serializer(type);
+            return (type, settings) -> new Tuple1Serializer(type);
         }
         if (Tuple2.class.isAssignableFrom(raw)) {
-            return new Tuple2Serializer(type);
+            return (type, settings) -> new Tuple2Serializer(type);
         }
         if (Tuple3.class.isAssignableFrom(raw)) {
-            return new Tuple3Serializer(type);
+            return (type, settings) -> new Tuple3Serializer(type);
         }
         if (Tuple4.class.isAssignableFrom(raw)) {
-            return new Tuple4Serializer(type);
+            return (type, settings) -> new Tuple4Serializer(type);
         }
         if (Tuple5.class.isAssignableFrom(raw)) {
-            return new Tuple5Serializer(type);
+            return (type, settings) -> new Tuple5Serializer(type);
         }
         if (Tuple6.class.isAssignableFrom(raw)) {
-            return new Tuple6Serializer(type);
+            return (type, settings) -> new Tuple6Serializer(type);
         }
         if (Tuple7.class.isAssignableFrom(raw)) {
-            return new Tuple7Serializer(type);
+            return (type, settings) -> new Tuple7Serializer(type);
         }
         if (Tuple8.class.isAssignableFrom(raw)) {
-            return new Tuple8Serializer(type);
+            return (type, settings) -> new Tuple8Serializer(type);
         }
 
         if (Function0.class.isAssignableFrom(raw)) {
-            return new SerializableSerializer<>(type);
+            return SERIALIZABLE;
         }
         if (Function1.class.isAssignableFrom(raw)) {
-            return new SerializableSerializer<>(type);
+            return SERIALIZABLE;
         }
         if (Function2.class.isAssignableFrom(raw)) {
-            return new SerializableSerializer<>(type);
+            return SERIALIZABLE;
         }
         if (Function3.class.isAssignableFrom(raw)) {
-            return new SerializableSerializer<>(type);
+            return SERIALIZABLE;
         }
         if (Function4.class.isAssignableFrom(raw)) {
-            return new SerializableSerializer<>(type);
+            return SERIALIZABLE;
         }
         if (Function5.class.isAssignableFrom(raw)) {
-            return new SerializableSerializer<>(type);
+            return SERIALIZABLE;
         }
         if (Function6.class.isAssignableFrom(raw)) {
-            return new SerializableSerializer<>(type);
+            return SERIALIZABLE;
         }
         if (Function7.class.isAssignableFrom(raw)) {
-            return new SerializableSerializer<>(type);
+            return SERIALIZABLE;
         }
         if (Function8.class.isAssignableFrom(raw)) {
-            return new SerializableSerializer<>(type);
+            return SERIALIZABLE;
         }
 
         if (CheckedFunction0.class.isAssignableFrom(raw)) {
-            return new SerializableSerializer<>(type);
+            return SERIALIZABLE;
         }
         if (CheckedFunction1.class.isAssignableFrom(raw)) {
-            return new SerializableSerializer<>(type);
+            return SERIALIZABLE;
         }
         if (CheckedFunction2.class.isAssignableFrom(raw)) {
-            return new SerializableSerializer<>(type);
+            return SERIALIZABLE;
         }
         if (CheckedFunction3.class.isAssignableFrom(raw)) {
-            return new SerializableSerializer<>(type);
+            return SERIALIZABLE;
         }
         if (CheckedFunction4.class.isAssignableFrom(raw)) {
-            return new SerializableSerializer<>(type);
+            return SERIALIZABLE;
         }
         if (CheckedFunction5.class.isAssignableFrom(raw)) {
-            return new SerializableSerializer<>(type);
+            return SERIALIZABLE;
         }
         if (CheckedFunction6.class.isAssignableFrom(raw)) {
-            return new SerializableSerializer<>(type);
+            return SERIALIZABLE;
         }
         if (CheckedFunction7.class.isAssignableFrom(raw)) {
-            return new SerializableSerializer<>(type);
+            return SERIALIZABLE;
         }
         if (CheckedFunction8.class.isAssignableFrom(raw)) {
-            return new SerializableSerializer<>(type);
+            return SERIALIZABLE;
         }
 
+        return NONE;
+    }
+
+    @SuppressWarnings("deprecation")
+    @Override
+    public JsonSerializer<?> findSerializer(SerializationConfig config,
+                                            JavaType type, BeanDescription beanDesc) {
+
+        JsonSerializer<?> ser = FACTORIES.get(type.getRawClass()).apply(type, settings);
+        if (ser != null) {
+            return ser;
+        }
         return super.findSerializer(config, type, beanDesc);
     }
 
@@ -145,10 +168,10 @@ public class VavrSerializers extends Serializers.Base {
                                                      TypeSerializer contentTypeSerializer, JsonSerializer<Object> contentValueSerializer) {
         Class<?> raw = type.getRawClass();
         if (Lazy.class.isAssignableFrom(raw)) {
-            return new LazySerializer(type, type.getContentType(), contentTypeSerializer, contentValueSerializer);
+            return new LazySerializer(type, type.getContentType(), contentTypeSerializer, contentValueSerializer, settings);
         }
         if (Option.class.isAssignableFrom(raw)) {
-            return new OptionSerializer(type, type.getContentType(), contentTypeSerializer, contentValueSerializer, settings.useOptionInPlainFormat());
+            return new OptionSerializer(type, type.getContentType(), contentTypeSerializer, contentValueSerializer, settings.useOptionInPlainFormat(), settings.useCompactFormat());
         }
         return super.findReferenceSerializer(config, type, beanDesc, contentTypeSerializer, contentValueSerializer);
     }
@@ -161,14 +184,15 @@ public class VavrSerializers extends Serializers.Base {
         if (raw == CharSeq.class) {
             return new CharSeqSerializer(collectionType);
         }
-        if (Seq.class.isAssignableFrom(raw)) {
-            return new ArraySerializer<>(collectionType);
+        boolean staticTyping = config.isEnabled(MapperFeature.USE_STATIC_TYPING);
+        if (Seq.class.isAssignableFrom(raw) || Iterator.class.isAssignableFrom(raw)) {
+            return new ArraySerializer<>(collectionType, staticTyping, elementTypeSerializer, elementValueSerializer, settings);
         }
         if (Set.class.isAssignableFrom(raw)) {
-            return new ArraySerializer<>(collectionType);
+            return new ArraySerializer<>(collectionType, staticTyping, elementTypeSerializer, elementValueSerializer);
         }
         if (PriorityQueue.class.isAssignableFrom(raw)) {
-            return new ArraySerializer<>(collectionType);
+            return new ArraySerializer<>(collectionType, staticTyping, elementTypeSerializer, elementValueSerializer);
         }
         return super.findCollectionLikeSerializer(config, collectionType, beanDesc, elementTypeSerializer, elementValueSerializer);
     }
@@ -180,10 +204,12 @@ public class VavrSerializers extends Serializers.Base {
                                                    TypeSerializer elementTypeSerializer, JsonSerializer<Object> elementValueSerializer) {
         Class<?> raw = type.getRawClass();
         if (Map.class.isAssignableFrom(raw)) {
-            return new MapSerializer(type);
+            return new MapSerializer(type, config.isEnabled(MapperFeature.USE_STATIC_TYPING), keySerializer,
+                    elementTypeSerializer, elementValueSerializer, settings);
         }
         if (Multimap.class.isAssignableFrom(raw)) {
-            return new MultimapSerializer(type);
+            return new MultimapSerializer(type, config.isEnabled(MapperFeature.USE_STATIC_TYPING), keySerializer,
+                    elementTypeSerializer, elementValueSerializer);
         }
         return super.findMapLikeSerializer(config, type, beanDesc, keySerializer, elementTypeSerializer, elementValueSerializer);
     }
@@ -5,10 +5,6 @@ import io.vavr.collection.*;
 import io.vavr.control.Either;
 import io.vavr.control.Option;
 
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
-
 /**
  * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
  */
@@ -127,13 +123,8 @@ public class Serializer {
     }
 
     private static String expectedMultimapJson(Multimap<?, ?> multimap, int opts) {
-        final LinkedHashMap<Object, List<Object>> map = new LinkedHashMap<>();
-        multimap.forEach(e -> {
-            List<Object> list = map.computeIfAbsent(e._1, k -> new ArrayList<>());
-            list.add(e._2);
-        });
         StringBuilder sb = new StringBuilder("{");
-        map.forEach((k, l) -> sb.append(expectedJson(k.toString(), opts)).append(":").append(expectedJson(io.vavr.collection.Stream.ofAll(l))));
+        multimap.asMap().forEach((k, l) -> sb.append(expectedJson(k.toString(), opts)).append(":").append(expectedJson(io.vavr.collection.Stream.ofAll(l))));
         sb.append("}");
         return sb.toString();
     }
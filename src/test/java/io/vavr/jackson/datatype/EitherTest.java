@@ -6,6 +6,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonMappingException;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.module.scala.DefaultScalaModule;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -55,6 +56,24 @@ public class EitherTest extends BaseTest {
         Assertions.assertEquals(right, restored);
     }
 
+    @Test
+    void testCompactFormat() throws IOException {
+        ObjectMapper compact = mapper(new VavrModule.Settings().useCompactFormat(true));
+        Assertions.assertEquals("[false,\"a\"]", compact.writeValueAsString(Either.left("a")));
+        Assertions.assertEquals("[true,1]", compact.writeValueAsString(Either.right(1)));
+        Assertions.assertEquals(Either.left("a"), mapper().readValue("[false,\"a\"]", Either.class));
+        Assertions.assertEquals(Either.right(1), mapper().readValue("[true,1]", Either.class));
+        Assertions.assertEquals(Either.right(1), compact.readValue("[\"right\",1]", Either.class));
+    }
+
+    @Test
+    void testMixedRuntimeTypes() throws IOException {
+        ObjectWriter writer = mapper().writerFor(new TypeReference<List<Either<Object, Object>>>() {});
+        List<Either<Object, Object>> src = List.of(Either.right(1), Either.right("a"), Either.left(2.5), Either.right(2), Either.left("b"));
+        Assertions.assertEquals("[[\"right\",1],[\"right\",\"a\"],[\"left\",2.5],[\"right\",2],[\"left\",\"b\"]]",
+                writer.writeValueAsString(src));
+    }
+
     @Test
     void test3() throws IOException {
         Assertions.assertThrows(JsonMappingException.class, () -> {
@@ -175,4 +194,16 @@ public class EitherTest extends BaseTest {
                 mapper.readValue(serializedRight, new TypeReference<Either<String, BigInteger>>() { });
         Assertions.assertEquals(BigInteger.ONE, deserializedRight.get());
     }
+
+    static class ObjectFormBean {
+        public Either<String, Integer> first;
+        public Either<String, Integer> second;
+    }
+
+    @Test
+    void testObjectFormInsideBean() throws IOException {
+        ObjectFormBean bean = mapper().readValue("{\"first\":{\"right\":1},\"second\":{\"left\":\"a\"}}", ObjectFormBean.class);
+        Assertions.assertEquals(Either.right(1), bean.first);
+        Assertions.assertEquals(Either.left("a"), bean.second);
+    }
 }
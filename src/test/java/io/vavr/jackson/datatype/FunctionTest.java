@@ -22,6 +22,32 @@ class FunctionTest extends BaseTest {
         });
     }
 
+    @Test
+    void testRegisteredFunction() throws IOException {
+        Function1<String, String> registered = i1 -> i1 + 42;
+        Function1<String, String> other = i1 -> i1 + 43;
+        VavrModule.Settings settings = new VavrModule.Settings().registerFunction("append42", registered);
+        String json = mapper(settings).writer().writeValueAsString(registered);
+        Assertions.assertEquals("\"append42\"", json);
+        Function1<String, String> res = mapper(settings).readValue(json, new TypeReference<Function1<String, String>>() {});
+        Assertions.assertSame(registered, res);
+        String otherJson = mapper(settings).writer().writeValueAsString(other);
+        Function1<String, String> otherRes = mapper(settings).readValue(otherJson, new TypeReference<Function1<String, String>>() {});
+        Assertions.assertEquals("1/43", otherRes.apply("1/"));
+    }
+
+    @Test
+    void testReRegisteredName() throws IOException {
+        Function1<String, String> registered = i1 -> i1 + 42;
+        Function1<String, String> other = i1 -> i1 + 43;
+        VavrModule.Settings settings = new VavrModule.Settings()
+                .registerFunction("append42", registered)
+                .registerFunction("alias", registered)
+                .registerFunction("alias", other);
+        Assertions.assertEquals("\"append42\"", mapper(settings).writer().writeValueAsString(registered));
+        Assertions.assertEquals("\"alias\"", mapper(settings).writer().writeValueAsString(other));
+    }
+
     @Test
     void testF0() throws IOException {
         Function0<String> src = () -> "42";
@@ -1,19 +1,43 @@
 package io.vavr.jackson.datatype;
 
+import com.fasterxml.jackson.annotation.JacksonInject;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.InjectableValues;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.vavr.Lazy;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.List;
+import io.vavr.collection.Stream;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class LazyTest extends BaseTest {
     @Test
@@ -34,6 +58,75 @@ public class LazyTest extends BaseTest {
         assertEquals(src, restored);
     }
 
+    static class DeferredBean {
+        public Lazy<Integer> valid;
+        public Lazy<Integer> invalid;
+    }
+
+    @Test
+    void testDeferredDeserialization() throws IOException {
+        ObjectMapper mapper = mapper(new VavrModule.Settings().deferLazyDeserialization(true));
+        DeferredBean bean = mapper.readValue("{\"valid\":1,\"invalid\":\"x\"}",
+                new TypeReference<DeferredBean>() {});
+        assertFalse(bean.valid.isEvaluated());
+        assertEquals(Integer.valueOf(1), bean.valid.get());
+        assertThrows(UncheckedIOException.class, bean.invalid::get);
+    }
+
+    static class UpperCaseDeserializer extends StdDeserializer<String> {
+        private static final long serialVersionUID = 1L;
+
+        UpperCaseDeserializer() {
+            super(String.class);
+        }
+
+        @Override
+        public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return p.getValueAsString().toUpperCase();
+        }
+    }
+
+    static class DeferredContentBean {
+        @JsonDeserialize(contentUsing = UpperCaseDeserializer.class)
+        public Lazy<String> value;
+        public Lazy<DeferredBean> nested;
+    }
+
+    @Test
+    void testDeferredDeserializationIsContextual() throws IOException {
+        ObjectMapper mapper = mapper(new VavrModule.Settings().deferLazyDeserialization(true));
+        DeferredContentBean bean = mapper.readerFor(DeferredContentBean.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .readValue("{\"value\":\"abc\",\"nested\":{\"valid\":1,\"unknown\":2}}");
+        assertEquals("ABC", bean.value.get());
+        assertEquals(Integer.valueOf(1), bean.nested.get().valid.get());
+    }
+
+    static class InjectedBean {
+        @JacksonInject("tag")
+        public String tag;
+        public int value;
+    }
+
+    @Test
+    void testDeferredDeserializationInjectsReaderValues() throws IOException {
+        ObjectMapper mapper = mapper(new VavrModule.Settings().deferLazyDeserialization(true));
+        Lazy<InjectedBean> restored = mapper.readerFor(new TypeReference<Lazy<InjectedBean>>() {})
+                .with(new InjectableValues.Std().addValue("tag", "injected"))
+                .readValue("{\"value\":1}");
+        assertFalse(restored.isEvaluated());
+        assertEquals("injected", restored.get().tag);
+        assertEquals(1, restored.get().value);
+    }
+
+    @Test
+    void testDeferredDeserializationBindsOnGet() throws IOException {
+        ObjectMapper mapper = mapper(new VavrModule.Settings().deferLazyDeserialization(true));
+        Lazy<java.util.List<Integer>> restored = mapper.readValue("[1,2,3]", new TypeReference<Lazy<java.util.List<Integer>>>() {});
+        assertFalse(restored.isEvaluated());
+        assertEquals(java.util.Arrays.asList(1, 2, 3), restored.get());
+    }
+
     @Test
     void testTwoLevelLazy() throws IOException {
         Lazy<Lazy<Integer>> src = Lazy.of(() -> Lazy.of(() -> 1));
@@ -138,4 +231,131 @@ public class LazyTest extends BaseTest {
         // Then the serialization is successful
         assertEquals("{\"value\":{\"a\":1,\"b\":2}}", json);
     }
+
+    @JsonPropertyOrder({"a", "b", "c"})
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    static class LazyBean {
+        public Lazy<Integer> a;
+        public Lazy<Integer> b;
+        public Lazy<Lazy<Integer>> c;
+    }
+
+    @Test
+    void testSkipUnevaluated() throws IOException {
+        ObjectMapper mapper = mapper(new VavrModule.Settings().lazyEvaluation(VavrModule.Settings.LazyEvaluation.SKIP_UNEVALUATED));
+        LazyBean src = new LazyBean();
+        src.a = Lazy.of(() -> 1);
+        src.a.get();
+        src.b = Lazy.of(() -> 2);
+        assertEquals("{\"a\":1}", mapper.writeValueAsString(src));
+        assertEquals("null", mapper.writeValueAsString(Lazy.of(() -> 1)));
+        assertFalse(src.b.isEvaluated());
+    }
+
+    @Test
+    void testPreForce() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ObjectMapper mapper = mapper(new VavrModule.Settings().preForceLazyValuesOn(executor));
+            Thread caller = Thread.currentThread();
+            Set<Thread> threads = ConcurrentHashMap.newKeySet();
+            LazyBean src = new LazyBean();
+            src.a = Lazy.of(() -> { threads.add(Thread.currentThread()); return 1; });
+            src.b = Lazy.of(() -> { threads.add(Thread.currentThread()); return 2; });
+            src.c = Lazy.of(() -> Lazy.of(() -> { threads.add(Thread.currentThread()); return 3; }));
+            assertEquals("{\"a\":1,\"b\":2,\"c\":3}", mapper.writeValueAsString(src));
+            assertFalse(threads.isEmpty());
+            assertFalse(threads.contains(caller));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @JsonPropertyOrder({"it", "a", "stream", "b"})
+    static class LazySiblingsBean {
+        public Iterator<Integer> it;
+        public Lazy<Integer> a;
+        public Stream<Integer> stream;
+        public Lazy<Integer> b;
+    }
+
+    @Test
+    void testPreForceLeavesIteratorAndStreamSiblings() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ObjectMapper mapper = mapper(new VavrModule.Settings().preForceLazyValuesOn(executor));
+            Thread caller = Thread.currentThread();
+            Set<Thread> threads = ConcurrentHashMap.newKeySet();
+            LazySiblingsBean src = new LazySiblingsBean();
+            src.it = Iterator.of(1, 2, 3);
+            src.a = Lazy.of(() -> { threads.add(Thread.currentThread()); return 1; });
+            src.stream = Stream.of(4, 5, 6);
+            src.b = Lazy.of(() -> { threads.add(Thread.currentThread()); return 2; });
+            assertEquals("{\"it\":[1,2,3],\"a\":1,\"stream\":[4,5,6],\"b\":2}", mapper.writeValueAsString(src));
+            assertFalse(threads.contains(caller));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    static class LatchBean {
+        public Lazy<Boolean> value;
+    }
+
+    @Test
+    void testPreForceReachesEveryElement() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            ObjectMapper mapper = mapper(new VavrModule.Settings().preForceLazyValuesOn(executor));
+            // each value only completes once all three are being evaluated at the same time
+            CountDownLatch latch = new CountDownLatch(3);
+            List<LatchBean> src = List.fill(3, () -> {
+                LatchBean bean = new LatchBean();
+                bean.value = Lazy.of(() -> {
+                    latch.countDown();
+                    try {
+                        return latch.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+                return bean;
+            });
+            assertEquals("[{\"value\":true},{\"value\":true},{\"value\":true}]", mapper.writeValueAsString(src));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    static class Public {
+    }
+
+    static class Internal extends Public {
+    }
+
+    @JsonFilter("lazies")
+    @JsonPropertyOrder({"visible", "internal", "hidden"})
+    static class FilteredBean {
+        public Lazy<Integer> visible = Lazy.of(() -> 1);
+        @JsonView(Internal.class)
+        public Lazy<Integer> internal = Lazy.of(() -> 2);
+        public Lazy<Integer> hidden = Lazy.of(() -> 3);
+    }
+
+    @Test
+    void testPreForceSkipsPropertiesNotWritten() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ObjectMapper mapper = mapper(new VavrModule.Settings().preForceLazyValuesOn(executor));
+            FilteredBean src = new FilteredBean();
+            String json = mapper.writerWithView(Public.class)
+                    .with(new SimpleFilterProvider().addFilter("lazies", SimpleBeanPropertyFilter.serializeAllExcept("hidden")))
+                    .writeValueAsString(src);
+            assertEquals("{\"visible\":1}", json);
+            assertFalse(src.internal.isEvaluated());
+            assertFalse(src.hidden.isEvaluated());
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -27,6 +27,16 @@ class OptionTest extends BaseTest {
         Assertions.assertEquals(src, restored);
     }
 
+    @Test
+    void testCompactFormat() throws IOException {
+        VavrModule.Settings compactSettings = new VavrModule.Settings().useOptionInPlainFormat(false).useCompactFormat(true);
+        Assertions.assertEquals("[true,1]", mapper(compactSettings).writeValueAsString(Option.of(1)));
+        Assertions.assertEquals("[false]", mapper(compactSettings).writeValueAsString(Option.none()));
+        Assertions.assertEquals(Option.of(1), mapper(optSettings).readValue("[true,1]", Option.class));
+        Assertions.assertEquals(Option.none(), mapper(optSettings).readValue("[false]", Option.class));
+        Assertions.assertEquals(Option.of(1), mapper(compactSettings).readValue("[\"defined\",1]", Option.class));
+    }
+
     @Test
     void test1null() throws IOException {
         Option<?> src = Option.some(null);
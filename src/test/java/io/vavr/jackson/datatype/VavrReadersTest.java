@@ -0,0 +1,56 @@
+package io.vavr.jackson.datatype;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.List;
+import io.vavr.collection.Stream;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VavrReadersTest extends BaseTest {
+
+    @Test
+    void testIterator() throws IOException {
+        ObjectMapper mapper = mapper();
+        JsonParser parser = mapper.getFactory().createParser("[[1,\"a\"],null,[2,\"b\"]] 42");
+        Iterator<Tuple2<Integer, String>> it = VavrReaders.iterator(mapper.reader(), parser,
+                mapper.getTypeFactory().constructParametricType(Tuple2.class, Integer.class, String.class));
+        assertEquals(List.of(Tuple.of(1, "a"), null, Tuple.of(2, "b")), it.toList());
+        assertFalse(it.hasNext());
+        assertEquals(42, parser.nextIntValue(0));
+    }
+
+    @Test
+    void testStreamBindsOnPull() throws IOException {
+        ObjectMapper mapper = mapper();
+        ObjectReader reader = mapper.reader();
+        Stream<Integer> stream = VavrReaders.stream(reader, mapper.getFactory().createParser("[1,2,\"x\"]"), Integer.class);
+        assertEquals(List.of(1, 2), stream.take(2).toList());
+        assertThrows(UncheckedIOException.class, () -> stream.drop(2).head());
+    }
+
+    @Test
+    void testEmpty() throws IOException {
+        ObjectMapper mapper = mapper();
+        assertTrue(VavrReaders.stream(mapper.reader(), mapper.getFactory().createParser("[]"), Integer.class).isEmpty());
+    }
+
+    @Test
+    void testNotArray() {
+        ObjectMapper mapper = mapper();
+        assertThrows(JsonMappingException.class,
+                () -> VavrReaders.iterator(mapper.reader(), mapper.getFactory().createParser("{}"), Integer.class));
+    }
+}
@@ -1,6 +1,8 @@
 package io.vavr.jackson.datatype.map;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParseException;
@@ -29,6 +31,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -53,6 +56,33 @@ public abstract class MapTest extends BaseTest {
         Assertions.assertEquals(restored, vavrObject);
     }
 
+    @Test
+    void testParallelSerialization() throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ObjectMapper mapper = mapper(new Settings().parallelSerialization(100, pool));
+            Map<Object, Object> src = emptyMap();
+            for (int i = 0; i < 1000; i++) {
+                src = src.put("k" + i, i % 2 == 0 ? Option.of(i) : List.of(i));
+            }
+            Assertions.assertEquals(mapper().writeValueAsString(src), mapper.writeValueAsString(src));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    static class IgnoredKeysBean {
+        @JsonIgnoreProperties({"secret"})
+        public Map<String, String> value;
+    }
+
+    @Test
+    void testIgnoredKeys() throws IOException {
+        IgnoredKeysBean src = new IgnoredKeysBean();
+        src.value = this.<String, String>emptyMap().put("a", "1").put("secret", "2");
+        Assertions.assertEquals("{\"value\":{\"a\":\"1\"}}", mapper().writeValueAsString(src));
+    }
+
     @Test
     void test2() throws IOException {
         ObjectMapper mapper = mapper().addMixIn(clz(), WrapperObject.class);
@@ -108,6 +138,29 @@ public abstract class MapTest extends BaseTest {
         ));
     }
 
+    @Test
+    void testOrderMapEntriesByKeys() throws IOException {
+        Map<Object, Object> src = emptyMap().put("b", 2).put("c", 3).put("a", 1);
+        String json = mapper().writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS).writeValueAsString(src);
+        Assertions.assertEquals("{\"a\":1,\"b\":2,\"c\":3}", json);
+    }
+
+    static class ContentInclusionBean {
+        @JsonInclude(content = JsonInclude.Include.NON_NULL)
+        public Map<String, Integer> values;
+
+        ContentInclusionBean(Map<String, Integer> values) {
+            this.values = values;
+        }
+    }
+
+    @Test
+    void testContentInclusion() throws IOException {
+        Map<String, Integer> values = this.<String, Integer>emptyMap().put("1", null).put("2", 2);
+        String json = mapper().writeValueAsString(new ContentInclusionBean(values));
+        Assertions.assertEquals("{\"values\":{\"2\":2}}", json);
+    }
+
     @XmlRootElement(name = "xmlSerialize")
     private static class JaxbXmlSerializeJavaUtil {
         @XmlElement(name = "transitType")
@@ -347,6 +400,14 @@ public abstract class MapTest extends BaseTest {
         assertEquals(HashMap.empty(), container.map);
     }
 
+    @Test
+    void testDeserializeNullAsEmptyOfTargetType() throws IOException {
+        Settings settings = new Settings().deserializeNullAsEmptyCollection(true);
+        Map<?, ?> empty = (Map<?, ?>) mapper(settings).readerFor(clz()).readValue("null");
+        assertEquals(clz(), empty.getClass());
+        assertTrue(empty.isEmpty());
+    }
+
     @Test
     void testDeserializeNullAsEmptyWhenFlagDisabled() throws IOException {
         Settings settings = new Settings().deserializeNullAsEmptyCollection(false);
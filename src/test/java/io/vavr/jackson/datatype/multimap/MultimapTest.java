@@ -66,6 +66,14 @@ public abstract class MultimapTest extends BaseTest {
         Assertions.assertThrows(JsonMappingException.class, () -> mapper().readValue("{\"k\":null}", clz()));
     }
 
+    @Test
+    void testAcceptSingleValueAsArray() throws IOException {
+        ObjectReader reader = mapper().readerFor(clz()).with(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY);
+        Multimap<?, ?> restored = reader.readValue("{\"1\":2,\"2\":[3,4]}");
+        Assertions.assertEquals(emptyMap().put("1", 2).put("2", 3).put("2", 4), restored);
+        Assertions.assertThrows(JsonMappingException.class, () -> mapper().readValue("{\"1\":2}", clz()));
+    }
+
     @Test
     void testWithOption() throws Exception {
         Multimap<String, Option<Integer>> multimap = this.<String, Option<Integer>>emptyMap().put("1", Option.some(1)).put("1", Option.none());
@@ -74,6 +82,13 @@ public abstract class MultimapTest extends BaseTest {
         verifySerialization(typeReferenceWithOption(), io.vavr.collection.List.of(Tuple.of(multimap, json)));
     }
 
+    @Test
+    void testOrderMapEntriesByKeys() throws IOException {
+        Multimap<Object, Object> src = emptyMap().put("b", 2).put("c", 3).put("a", 1).put("b", 4);
+        String json = mapper().writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS).writeValueAsString(src);
+        Assertions.assertEquals("{\"a\":[1],\"b\":[2,4],\"c\":[3]}", json);
+    }
+
     static class CustomKey {
         private final int id;
 
@@ -221,6 +236,29 @@ public abstract class MultimapTest extends BaseTest {
         assertIterableEquals(Arrays.asList(1, 2, 3), bean.map.get("String").get());
     }
 
+    static class UpperCaseDeserializer extends StdDeserializer<String> {
+
+        UpperCaseDeserializer() {
+            super(String.class);
+        }
+
+        @Override
+        public String deserialize(JsonParser p, DeserializationContext context) throws IOException {
+            return p.getValueAsString().toUpperCase();
+        }
+    }
+
+    static class ContentUsingBean {
+        @JsonDeserialize(contentUsing = UpperCaseDeserializer.class)
+        Multimap<String, String> map;
+    }
+
+    @Test
+    void testContextualizationOfElement() throws IOException {
+        ContentUsingBean bean = mapper().readValue("{\"map\":{\"k\":[\"a\",null,\"b\"]}}", ContentUsingBean.class);
+        assertIterableEquals(Arrays.asList("A", null, "B"), bean.map.get("k").get());
+    }
+
     static class MultimapContainer {
         private final Multimap<String, String> multimap;
 
@@ -2,11 +2,15 @@ package io.vavr.jackson.datatype.seq;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlElementWrapper;
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlRootElement;
 import io.vavr.jackson.datatype.BaseTest;
@@ -14,6 +18,7 @@ import io.vavr.jackson.datatype.VavrModule;
 import io.vavr.Tuple;
 import io.vavr.collection.List;
 import io.vavr.collection.Seq;
+import io.vavr.collection.Stream;
 import io.vavr.control.Option;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Assertions;
@@ -24,6 +29,8 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
 
 public abstract class SeqTest extends BaseTest {
 
@@ -117,6 +124,142 @@ public abstract class SeqTest extends BaseTest {
         ));
     }
 
+    @Test
+    void testEmptyAndLarge() throws IOException {
+        Seq<?> empty = (Seq<?>) mapper().readValue("[]", clz());
+        Assertions.assertTrue(empty.isEmpty());
+        Object[] elements = new Object[100];
+        Arrays.setAll(elements, i -> i);
+        Seq<?> src = of(elements);
+        Seq<?> dst = (Seq<?>) mapper().readValue(mapper().writeValueAsString(src), clz());
+        Assertions.assertEquals(src, dst);
+    }
+
+    @Test
+    void testPrimitiveElements() throws IOException {
+        ObjectMapper mapper = mapper();
+        verifyPrimitiveElements(mapper, Integer.class, "[1,-2,3]", 1, -2, 3);
+        verifyPrimitiveElements(mapper, Long.class, "[1,12345678901]", 1L, 12345678901L);
+        verifyPrimitiveElements(mapper, Double.class, "[1.5,2.0,-3.25]", 1.5, 2.0, -3.25);
+        verifyPrimitiveElements(mapper, Boolean.class, "[true,false]", true, false);
+        verifyPrimitiveElements(mapper, Integer.class, "[1,null,3]", 1, null, 3);
+        verifyPrimitiveElements(mapper, Double.class, "[1.0,null]", 1.0, null);
+        JavaType type = mapper.getTypeFactory().constructCollectionLikeType(clz(), Double.class);
+        Assertions.assertEquals(of(1.0, 2.5), mapper.readValue("[1, 2.5]", type));
+        type = mapper.getTypeFactory().constructCollectionLikeType(clz(), Integer.class);
+        Assertions.assertEquals(of(1, 2), mapper.readValue("[1, \"2\"]", type));
+    }
+
+    private void verifyPrimitiveElements(ObjectMapper mapper, Class<?> elementType, String json, Object... elements) throws IOException {
+        JavaType type = mapper.getTypeFactory().constructCollectionLikeType(clz(), elementType);
+        Seq<?> src = of(elements);
+        Assertions.assertEquals(json, mapper.writerFor(type).writeValueAsString(src));
+        Seq<?> restored = mapper.readValue(json, type);
+        Assertions.assertEquals(src, restored);
+        Assertions.assertTrue(clz().isAssignableFrom(restored.getClass()));
+    }
+
+    @Test
+    void testParallelSerialization() throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ObjectMapper mapper = mapper(new VavrModule.Settings().parallelSerialization(100, pool));
+            Object[] elements = new Object[1000];
+            Arrays.setAll(elements, i -> i % 3 == 0 ? "s" + i : i % 3 == 1 ? Option.of(i) : i);
+            Seq<?> src = of(elements);
+            Assertions.assertEquals(mapper().writeValueAsString(src), mapper.writeValueAsString(src));
+            Assertions.assertEquals(genJsonList(1, 2), mapper.writeValueAsString(of(1, 2)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @JsonIdentityInfo(generator = ObjectIdGenerators.IntSequenceGenerator.class)
+    static class IdNode {
+        public int value;
+    }
+
+    static class IdNodes {
+        public Seq<IdNode> nodes;
+    }
+
+    @Test
+    void testParallelSerializationWithObjectIds() throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ObjectMapper mapper = mapper(new VavrModule.Settings().parallelSerialization(100, pool));
+            Object[] elements = new Object[1000];
+            for (int i = 0; i < 10; i++) {
+                elements[i] = new IdNode();
+                ((IdNode) elements[i]).value = i;
+            }
+            Arrays.setAll(elements, i -> elements[i % 10]);
+            IdNodes src = new IdNodes();
+            src.nodes = of(elements).map(IdNode.class::cast);
+            IdNodes restored = mapper().readValue(mapper.writeValueAsString(src), IdNodes.class);
+            Assertions.assertEquals(1000, restored.nodes.size());
+            for (int i = 0; i < 1000; i++) {
+                Assertions.assertSame(restored.nodes.get(i % 10), restored.nodes.get(i));
+                Assertions.assertEquals(i % 10, restored.nodes.get(i).value);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testParallelDeserialization() throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ObjectMapper mapper = mapper(new VavrModule.Settings().parallelDeserialization(10, pool));
+            Object[] elements = new Object[1000];
+            Arrays.setAll(elements, i -> i % 3 == 0 ? "s" + i : i % 3 == 1 ? null : i);
+            Seq<?> src = of(elements);
+            String json = mapper.writeValueAsString(src);
+            Seq<?> restored = (Seq<?>) mapper.readValue(json, clz());
+            Assertions.assertEquals(src, restored);
+            Assertions.assertTrue(clz().isAssignableFrom(restored.getClass()));
+            Assertions.assertEquals(of(1, 2), mapper.readValue(genJsonList(1, 2), clz()));
+            // binding errors of a later chunk surface as they are
+            JavaType uuids = mapper.getTypeFactory().constructCollectionLikeType(clz(), UUID.class);
+            String invalid = Stream.range(0, 100).map(i -> "\"" + new UUID(0, i) + "\"").append("\"x\"").mkString("[", ",", "]");
+            assertThrows(JsonMappingException.class, () -> mapper.readValue(invalid, uuids));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testParallelDeserializationWithObjectIds() throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ObjectMapper mapper = mapper(new VavrModule.Settings().parallelDeserialization(10, pool));
+            Object[] elements = new Object[1000];
+            for (int i = 0; i < 20; i++) {
+                elements[i] = new IdNode();
+                ((IdNode) elements[i]).value = i;
+            }
+            Arrays.setAll(elements, i -> elements[i % 20]);
+            // the second ten nodes are written in full in the first chunk and referenced by the later ones
+            String json = mapper().writeValueAsString(of(elements));
+            Seq<?> restored = mapper.readValue(json, mapper.getTypeFactory().constructCollectionLikeType(clz(), IdNode.class));
+            Assertions.assertEquals(1000, restored.size());
+            for (int i = 0; i < 1000; i++) {
+                Assertions.assertSame(restored.get(i % 20), restored.get(i));
+                Assertions.assertEquals(i % 20, ((IdNode) restored.get(i)).value);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testSingleElementArraysUnwrapped() throws IOException {
+        ObjectWriter writer = mapper().writer().with(SerializationFeature.WRITE_SINGLE_ELEM_ARRAYS_UNWRAPPED);
+        Assertions.assertEquals("1", writer.writeValueAsString(of(1)));
+        Assertions.assertEquals(genJsonList(1, 2), writer.writeValueAsString(of(1, 2)));
+    }
+
     @XmlRootElement(name = "xmlSerialize")
     private static class JaxbXmlSerializeVavr {
         @XmlElementWrapper(name = "transitTypes")
@@ -1,9 +1,20 @@
 package io.vavr.jackson.datatype.seq;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.vavr.jackson.datatype.VavrModule;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import io.vavr.collection.Iterator;
 import io.vavr.collection.Seq;
 import io.vavr.collection.Stream;
 import io.vavr.control.Option;
@@ -28,4 +39,40 @@ public class StreamTest extends SeqTest {
     protected Seq<?> of(Object... objects) {
         return Stream.ofAll(Arrays.asList(objects));
     }
+
+    @Test
+    void testFlushEvery() throws IOException {
+        ObjectMapper mapper = mapper(new VavrModule.Settings().flushStreamsEvery(10));
+        AtomicInteger evaluated = new AtomicInteger();
+        java.util.List<Integer> evaluatedAtFlush = new ArrayList<>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                evaluatedAtFlush.add(evaluated.get());
+            }
+        };
+        mapper.writeValue(out, Stream.range(0, 100).map(i -> evaluated.incrementAndGet()));
+        Assertions.assertEquals(mapper.writeValueAsString(Stream.rangeClosed(1, 100)), out.toString());
+        Assertions.assertTrue(evaluatedAtFlush.size() >= 10);
+        Assertions.assertTrue(evaluatedAtFlush.get(0) <= 11);
+    }
+
+    @Test
+    void testIterator() throws IOException {
+        ObjectMapper mapper = mapper();
+        Assertions.assertEquals("[1,2,3]", mapper.writeValueAsString(Iterator.of(1, 2, 3)));
+        Assertions.assertEquals("[]", mapper.writeValueAsString(Iterator.empty()));
+        Iterator<Integer> single = Iterator.of(1);
+        Assertions.assertEquals("[1]", mapper.writer()
+                .with(SerializationFeature.WRITE_SINGLE_ELEM_ARRAYS_UNWRAPPED)
+                .writeValueAsString(single));
+    }
+
+    @Test
+    void testErrorPath() throws IOException {
+        ObjectMapper mapper = mapper();
+        JsonMappingException e = Assertions.assertThrows(JsonMappingException.class,
+                () -> mapper.writeValueAsString(Stream.of(1, 2).map(i -> i == 2 ? new Object() : i)));
+        Assertions.assertEquals(1, e.getPath().get(0).getIndex());
+    }
 }
@@ -65,6 +65,14 @@ public abstract class TupleTest<T> extends BaseTest {
         Assertions.assertEquals(src, restored);
     }
 
+    @Test
+    void testMixedRuntimeTypes() throws IOException {
+        ObjectMapper mapper = mapper();
+        Assertions.assertEquals(genJsonTuple(1, "a"), mapper.writeValueAsString(ofObjects(1, "a")));
+        Assertions.assertEquals(genJsonTuple("b", 2.5), mapper.writeValueAsString(ofObjects("b", 2.5)));
+        Assertions.assertEquals(genJsonTuple(3, "c"), mapper.writeValueAsString(ofObjects(3, "c")));
+    }
+
     @Test
     void testWithOption() throws IOException {
         verifySerialization(typeReferenceWithOption(), List.of(
@@ -45,6 +45,11 @@ class TupleXTest extends BaseTest {
         });
     }
 
+    @Test
+    void testNotArray() {
+        assertThrows(JsonMappingException.class, () -> mapper().readValue("{\"_1\": 1, \"_2\": 2}", Tuple2.class));
+    }
+
     @JsonTypeInfo(
             use = JsonTypeInfo.Id.NAME,
             include = JsonTypeInfo.As.WRAPPER_OBJECT,
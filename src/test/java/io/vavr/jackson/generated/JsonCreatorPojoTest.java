@@ -674,7 +674,7 @@ public class JsonCreatorPojoTest {
         Tuple2<String, Tuple2<String, String>> src1 = Tuple.of(src10, src11);
         TreeMultimap<String, Tuple2<String, String>> src = TreeMultimap.withSet().ofEntries(src0, src1);
         String json = MAPPER.writeValueAsString(TreeMultimapOfSeqTuple.create(src));
-        Assertions.assertEquals(json, "{\"A\":[[\"A\",\"B\"],[\"C\",\"D\"]]}");
+        Assertions.assertEquals(json, "{\"A\":[[\"C\",\"D\"],[\"A\",\"B\"]]}");
         TreeMultimapOfSeqTuple restored = MAPPER.readValue(json, TreeMultimapOfSeqTuple.class);
         Assertions.assertEquals(src, restored.getValue());
     }
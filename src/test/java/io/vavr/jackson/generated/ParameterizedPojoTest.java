@@ -716,7 +716,7 @@ public class ParameterizedPojoTest {
         Tuple2<String, Tuple2<String, String>> src1 = Tuple.of(src10, src11);
         TreeMultimap<String, Tuple2<String, String>> src = TreeMultimap.withSet().ofEntries(src0, src1);
         String json = MAPPER.writeValueAsString(new ParameterizedTreeMultimapPojo<>(src));
-        Assertions.assertEquals(json, "{\"value\":{\"A\":[[\"A\",\"B\"],[\"C\",\"D\"]]}}");
+        Assertions.assertEquals(json, "{\"value\":{\"A\":[[\"C\",\"D\"],[\"A\",\"B\"]]}}");
         ParameterizedTreeMultimapPojo<java.lang.String, io.vavr.Tuple2<java.lang.String, java.lang.String>> restored =
                 MAPPER.readValue(json, new TypeReference<ParameterizedTreeMultimapPojo<java.lang.String, io.vavr.Tuple2<java.lang.String, java.lang.String>>>(){});
         Assertions.assertEquals(src, restored.getValue());
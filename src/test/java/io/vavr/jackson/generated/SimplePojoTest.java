@@ -672,7 +672,7 @@ public class SimplePojoTest {
         Tuple2<String, Tuple2<String, String>> src1 = Tuple.of(src10, src11);
         TreeMultimap<String, Tuple2<String, String>> src = TreeMultimap.withSet().ofEntries(src0, src1);
         String json = MAPPER.writeValueAsString(new TreeMultimapOfSeqTuple().setValue(src));
-        Assertions.assertEquals(json, "{\"value\":{\"A\":[[\"A\",\"B\"],[\"C\",\"D\"]]}}");
+        Assertions.assertEquals(json, "{\"value\":{\"A\":[[\"C\",\"D\"],[\"A\",\"B\"]]}}");
         TreeMultimapOfSeqTuple restored = MAPPER.readValue(json, TreeMultimapOfSeqTuple.class);
         Assertions.assertEquals(src, restored.getValue());
     }